@@ -0,0 +1,89 @@
+package group2.monopoly.game;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.service.engine.DiceRoll;
+import group2.monopoly.game.service.engine.IDiceGenerator;
+import group2.monopoly.game.service.engine.core.BoardState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory games in realistic states for the benchmarks, built without any repository.
+ */
+public final class GameFixtures {
+    private GameFixtures() {
+    }
+
+    /**
+     * Returns a fixed table with the income tax on cell 7, properties on cells
+     * 1, 2, 3, 5, 8, 10, 13, 15 and ports on cells 6, 9, 11, 14.
+     *
+     * @return the table
+     */
+    public static GameTableConfiguration table() {
+        return new GameTableConfiguration(7,
+                new ArrayList<>(List.of(1, 2, 3, 5, 8, 10, 13, 15)),
+                new ArrayList<>(List.of(6, 9, 11, 14)));
+    }
+
+    /**
+     * Returns a game in the middle of its course: the user owns two properties and a port, the
+     * computer owns two properties and two ports, and both have spent some of their money.
+     *
+     * @return the game
+     */
+    public static Game midGame() {
+        Game game = Game
+                .builder()
+                .id(1L)
+                .name("benchmark")
+                .owner(new User("benchmark", "benchmark@example.com", "password"))
+                .gameTableConfiguration(table())
+                .turn(20L)
+                .build();
+        game.getPlayers().add(player(game, 1L, game.getOwner(), 0, 1100, 5,
+                Set.of(1, 5, 9)));
+        game.getPlayers().add(player(game, 2L, null, 1, 900, 10, Set.of(8, 13, 11, 14)));
+        return game;
+    }
+
+    private static Player player(Game game, Long id, User user, int turnOrder, int money,
+                                 int location, Set<Integer> owned) {
+        return Player
+                .builder()
+                .id(id)
+                .game(game)
+                .user(user)
+                .turnOrder(turnOrder)
+                .money(money)
+                .location(location)
+                .ownedMask(BoardState.toMask(owned))
+                .lastDie1(2)
+                .lastDie2(3)
+                .build();
+    }
+
+    /**
+     * Returns a dice generator cycling through a fixed sequence of non-double rolls.
+     *
+     * @return the dice generator
+     */
+    public static IDiceGenerator cyclingDice() {
+        int[][] rolls = {{1, 2}, {3, 5}, {6, 4}, {2, 5}, {1, 3}, {4, 6}, {5, 2}, {3, 1}};
+        return new IDiceGenerator() {
+            private int index;
+
+            @Override
+            public int roll() {
+                int[] roll = rolls[index];
+                index = (index + 1) % rolls.length;
+                return DiceRoll.of(roll[0], roll[1]);
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package group2.monopoly.game.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import group2.monopoly.game.GameFixtures;
+import group2.monopoly.game.entity.LeaderboardEntry;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.payload.ScoreboardPageDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON and CBOR encodings of the responses of the game and scoreboard endpoints.
+ * <br><br>
+ * The mappers are built the same way as the message converters of the application. The size of
+ * each encoded payload is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class WireFormatBenchmark {
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"game", "delta", "scoreboard"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private JsonNode tree;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        mapper = format.equals("json") ? json :
+                Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+        tree = json.valueToTree(switch (payload) {
+            case "game" -> GameFixtures.midGame();
+            case "delta" -> delta();
+            default -> scoreboard();
+        });
+        encoded = mapper.writeValueAsBytes(tree);
+        System.out.println(format + " " + payload + ": " + encoded.length + " bytes");
+    }
+
+    private static GameDeltaDTO delta() {
+        return new GameDeltaDTO(1L, 20L, 21L, List.of(
+                new GameDeltaDTO.PlayerDelta(0, 1040, 9, null, List.of(1, 3), Set.of(9)),
+                new GameDeltaDTO.PlayerDelta(1, 960, 15, null, List.of(2, 3), null)));
+    }
+
+    private static ScoreboardPageDTO scoreboard() {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (long id = 100; id > 0; id--) {
+            entries.add(new LeaderboardEntry(id, id / 2, id % 2 == 0 ? "player" + id : null,
+                    (int) id * 37, new Date(1654041600000L + id * 60000)));
+        }
+        return new ScoreboardPageDTO(entries, "37:1");
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(tree);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return mapper.readTree(encoded);
+    }
+}
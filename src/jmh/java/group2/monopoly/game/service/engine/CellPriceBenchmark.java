@@ -0,0 +1,49 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.GameFixtures;
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.service.GameScoreService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the formula based {@link GameCellPriceService} with the precompiled
+ * {@link CompiledCellPriceService}, directly and through {@link GameScoreService}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CellPriceBenchmark {
+    @Param({"formula", "compiled"})
+    private String prices;
+
+    private IGameCellPrice priceService;
+    private GameScoreService scoreService;
+    private GameTableConfiguration table;
+    private List<Integer> owned;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameCellPriceService formulaService = new GameCellPriceService();
+        priceService = prices.equals("formula") ? formulaService :
+                new CompiledCellPriceService(formulaService);
+        scoreService = new GameScoreService(priceService);
+        table = GameFixtures.table();
+        owned = List.of(8, 13, 11, 14);
+    }
+
+    @Benchmark
+    public Integer getPortRent() {
+        return priceService.getPortRent(table, 11, 2);
+    }
+
+    @Benchmark
+    public Integer computeScore() {
+        return scoreService.computeScore(table, owned, 900);
+    }
+}
@@ -0,0 +1,44 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.GameFixtures;
+import group2.monopoly.game.entity.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FileDiceGenerator#roll()} and {@link FileDiceGenerator#roll(Game)} on a dice
+ * file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class FileDiceGeneratorBenchmark {
+    /**
+     * Path of the dice file, relative to the directory the benchmarks are run from.
+     */
+    @Param("src/main/resources/diceSequences/dice_01.txt")
+    private String diceFile;
+
+    private FileDiceGenerator generator;
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new FileDiceGenerator(diceFile);
+        game = GameFixtures.midGame();
+    }
+
+    @Benchmark
+    public int roll() {
+        return generator.roll();
+    }
+
+    @Benchmark
+    public int rollForGame() {
+        return generator.roll(game);
+    }
+}
@@ -0,0 +1,71 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.GameFixtures;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.service.GameScoreService;
+import group2.monopoly.game.service.ai.DumbAiPlayerRunnerService;
+import group2.monopoly.game.service.ai.IAiPlayerRunner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole turn, the movement phase and the purchase check of {@link GameEngineService}
+ * on a game in the middle of its course.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class GameEngineBenchmark {
+    private GameEngineService engine;
+    private Game game;
+    private Player player;
+    private final IAiPlayerRunner robotRunner = new DumbAiPlayerRunnerService();
+
+    @Setup(Level.Trial)
+    public void setUpEngine() {
+        CompiledCellPriceService priceService =
+                new CompiledCellPriceService(new GameCellPriceService());
+        engine = new GameEngineService(priceService, GameFixtures.cyclingDice(),
+                new GameScoreService(priceService));
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpGame() {
+        game = GameFixtures.midGame();
+        player = game.getPlayers().get(0);
+    }
+
+    @Benchmark
+    public Game playTurn() {
+        try {
+            engine.playTurn(player, game.getPlayers().get(1), robotRunner, robotRunner);
+        } catch (GameOverException e) {
+            setUpGame();
+        }
+        game.getPendingEvents().clear();
+        return game;
+    }
+
+    @Benchmark
+    public Game moveStep() {
+        try {
+            engine.moveStep(player);
+        } catch (GameOverException e) {
+            setUpGame();
+        }
+        // the store would persist and clear the recorded events after each turn
+        game.getPendingEvents().clear();
+        return game;
+    }
+
+    @Benchmark
+    public boolean canBuy() {
+        return engine.canBuy(player, game, 3);
+    }
+}
@@ -0,0 +1,83 @@
+package group2.monopoly.game.service.manager;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.service.history.GameHistoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of {@link GameManagerService#createGame(User, String)} on an in-memory
+ * database, with several threads creating games concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class GameCreationBenchmark {
+    private final AtomicLong names = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private GameManagerService gameManager;
+    private User user;
+
+    /**
+     * Only the persistence layer and the services creating games.
+     */
+    @Configuration
+    @ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class,
+            DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan("group2.monopoly")
+    @EnableJpaRepositories("group2.monopoly")
+    @Import({GameManagerService.class, GameHistoryService.class, TableLayoutService.class,
+            RandomCellSequenceGeneratorService.class})
+    static class CreationConfiguration {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CreationConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;NON_KEYWORDS=USER",
+                        "spring.datasource.hikari.maximum-pool-size=8",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=32",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "monopoly.game.history.snapshot-turns=20")
+                .run();
+        gameManager = context.getBean(GameManagerService.class);
+        user = context.getBean(UserRepository.class)
+                .save(new User("username", "email@example.com", "password"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Game createGame() throws GameManagementException {
+        return gameManager.createGame(user, "game" + names.incrementAndGet());
+    }
+}
@@ -1,59 +1,86 @@
 package group2.monopoly.game.controller;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import group2.monopoly.auth.entity.User;
 import group2.monopoly.auth.service.UserService;
 import group2.monopoly.game.entity.Game;
-import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.exception.GameConflictException;
 import group2.monopoly.game.exception.GameFaultyMoveException;
 import group2.monopoly.game.exception.GameManagementException;
 import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.exception.GameRequestMismatchException;
 import group2.monopoly.game.payload.GameCreateDTO;
+import group2.monopoly.game.payload.GameDeltaDTO;
 import group2.monopoly.game.payload.GameInteractionDTO;
-import group2.monopoly.game.service.ai.IAiPlayerRunner;
+import group2.monopoly.game.payload.GameSummaryDTO;
+import group2.monopoly.game.payload.GameTurnsDTO;
+import group2.monopoly.game.service.GameStreamService;
+import group2.monopoly.game.service.GameTurnService;
+import group2.monopoly.game.service.IdempotencyService;
+import group2.monopoly.game.service.archive.GameArchiveService;
+import group2.monopoly.game.service.history.GameDeltaService;
 import group2.monopoly.game.service.manager.GameManagerService;
-import group2.monopoly.game.service.engine.IGameCellPrice;
-import group2.monopoly.game.service.engine.IGameEngine;
-import group2.monopoly.mapper.ObjectMapperSingleton;
+import group2.monopoly.game.service.store.IGameStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Controller for mapping in-game requests.
  */
 @RestController
 @Slf4j
-@RequestMapping(value = "/api/game", produces = "application/json", consumes = "application/json")
+@RequestMapping(value = "/api/game", produces = {MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE}, consumes = {MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE})
 public class GameController {
 
-    private final ObjectMapper objectMapper = ObjectMapperSingleton.getMapper();
     private final UserService userService;
 
     private final GameManagerService gameManager;
 
-    private final IGameEngine gameEngine;
+    private final GameTurnService gameTurnService;
 
-    private final IAiPlayerRunner aiPlayerRunner;
+    private final IGameStore gameStore;
 
-    private final IGameCellPrice cellPriceService;
+    private final IdempotencyService idempotencyService;
+
+    private final GameArchiveService archiveService;
+
+    private final GameDeltaService deltaService;
+
+    private final GameStreamService streamService;
 
     @Autowired
     public GameController(UserService userService, GameManagerService gameManager,
-                          IGameEngine gameEngine,
-                          IAiPlayerRunner aiPlayerRunner, IGameCellPrice cellPriceService) {
+                          GameTurnService gameTurnService, IGameStore gameStore,
+                          IdempotencyService idempotencyService,
+                          GameArchiveService archiveService, GameDeltaService deltaService,
+                          GameStreamService streamService) {
         this.userService = userService;
         this.gameManager = gameManager;
-        this.gameEngine = gameEngine;
-        this.aiPlayerRunner = aiPlayerRunner;
-        this.cellPriceService = cellPriceService;
+        this.gameTurnService = gameTurnService;
+        this.gameStore = gameStore;
+        this.idempotencyService = idempotencyService;
+        this.archiveService = archiveService;
+        this.deltaService = deltaService;
+        this.streamService = streamService;
     }
 
 
@@ -61,10 +88,10 @@ public class GameController {
      * Lists games available to the user
      *
      * @param authentication {@link Authentication} object supplied by Spring Security
-     * @return List of games
+     * @return List of summaries of the games
      */
     @GetMapping("")
-    public List<Game> getAvailableGames(Authentication authentication) {
+    public List<GameSummaryDTO> getAvailableGames(Authentication authentication) {
         User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
         return gameManager.getAvailableGames(user);
     }
@@ -87,29 +114,74 @@ public class GameController {
 
     /**
      * Gets the specified {@link Game}.
+     * <br><br>
+     * Completed games that are moved to the archive are served from the archive. Archived games
+     * no longer have turns, so they can not be requested with 'since'.
+     * <br>
+     * If the last turn the client has seen is supplied, only the changes since that turn are
+     * returned as a {@link GameDeltaDTO}.
+     * <br>
+     * The response is tagged with the turn of the game, which is advanced by every change of the
+     * game, along with the requested 'since' turn and the negotiated format. A request whose
+     * 'If-None-Match' header matches the tag of the current turn is answered with 304 Not
+     * Modified from a lookup of the turn, without loading the game. As the tag depends on the
+     * format, every response, including 304 Not Modified, varies by the 'Accept' header.
      *
      * @param id             Id of the {@link Game} object
+     * @param since          optional last turn the client has seen
+     * @param request        the request, for checking its 'If-None-Match' header
+     * @param response       the response, for setting its 'Vary' header
      * @param authentication {@link Authentication} object supplied by Spring Security
-     * @return {@link Game} object with the given id
+     * @return {@link Game} object with the given id, its {@link GameDeltaDTO} since the given
+     * turn, or null if it is not modified
      * @throws GameManagementException if the user has no access to such game
      */
     @GetMapping("/{id}")
-    public Game getGame(@PathVariable("id") Long id, Authentication authentication) throws GameManagementException {
+    public Object getGame(@PathVariable("id") Long id,
+                            @RequestParam(value = "since", required = false) Long since,
+                            WebRequest request, HttpServletResponse response,
+                            Authentication authentication) throws GameManagementException {
         User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
-        Game game = gameManager.getGame(user, id);
-        List<Player> players = game.getPlayers();
-
-        Player player;
-        Player robot;
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        Optional<Long> turn = gameStore.getTurn(user, id);
+        if (turn.isPresent()
+            && request.checkNotModified(etagOf(turn.get(), since, formatOf(request)))) {
+            return null;
+        }
+        Game game;
+        try {
+            game = gameStore.getGame(user, id);
+        } catch (GameManagementException e) {
+            Optional<JsonNode> archived = archiveService.getGame(user, id);
+            if (archived.isPresent() && since != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "archived games can not be requested since a turn");
+            }
+            return archived.orElseThrow(() -> e);
+        }
+        return respond(game, since);
+    }
 
-        if (players.get(0).getUser() == null) {
-            player = players.get(1);
-            robot = players.get(0);
-        } else {
-            player = players.get(0);
-            robot = players.get(1);
+    /**
+     * Subscribes to the turns of the specified {@link Game} as server-sent events.
+     * <br><br>
+     * Each turn played on the game by any of its players is pushed as the changes since the
+     * previous turn, so the game does not need to be polled.
+     *
+     * @param id             Id of the {@link Game} object
+     * @param authentication {@link Authentication} object supplied by Spring Security
+     * @return the stream of the turns of the game
+     * @throws GameManagementException if the user has no access to such game
+     * @see GameStreamService
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE,
+            consumes = MediaType.ALL_VALUE)
+    public SseEmitter streamGame(@PathVariable("id") Long id, Authentication authentication) throws GameManagementException {
+        User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
+        if (gameStore.getTurn(user, id).isEmpty()) {
+            throw new GameManagementException("user is not a player of this game");
         }
-        return game;
+        return streamService.subscribe(id);
     }
 
     /**
@@ -124,7 +196,9 @@ public class GameController {
     @DeleteMapping("/{id}")
     public void deleteGame(@PathVariable("id") Long id, Authentication authentication) throws GameManagementException {
         User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
-        gameManager.deleteGame(user, gameManager.getGame(user, id));
+        Game game = gameManager.getGame(user, id);
+        gameStore.discard(id);
+        gameManager.deleteGame(user, game);
     }
 
     /**
@@ -135,53 +209,80 @@ public class GameController {
      * (consisting of movement phase and purchase phase). Finally, the movement phase of the
      * human player is simulated and the resulting game state is sent as response to the user,
      * waiting for a new request to decide the action in the next purchase phase.
+     * <br>
+     * The interaction is not repeated when it is submitted again with the same
+     * {@value IdempotencyService#HEADER} header and the same request, and the response of the
+     * first submission is returned instead.
+     * <br>
+     * If the last turn the client has seen is supplied, only the changes since that turn are
+     * returned as a {@link GameDeltaDTO}.
      *
      * @param id             Id of the {@link Game} object
      * @param dto            {@link GameInteractionDTO} object for specifying the action in
      *                                                 purchase phase
+     * @param since          optional last turn the client has seen
+     * @param idempotencyKey optional key identifying the interaction
      * @param authentication {@link Authentication} object supplied by Spring Security
      * @return The resulting game state
      * @throws GameManagementException if the user has no access to such game
      * @throws GameFaultyMoveException if the user wants to buy a cell that can't be purchased
      * (already purchased, not a property etc.)
      * @throws GameOverException       if a player goes bankrupt within simulated the game turn
+     * @throws GameConflictException   if the game keeps being modified by concurrent requests
+     * @throws GameRequestMismatchException if the idempotency key was used with another request
      */
     @PostMapping("/{id}")
-    public Game interactWithGame(@PathVariable("id") Long id, @RequestBody GameInteractionDTO dto
-            , Authentication authentication) throws GameManagementException,
-            GameFaultyMoveException, GameOverException {
-        User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
-        Game game = gameManager.getGame(user, id);
-        List<Player> players = game.getPlayers();
-
-        Player player;
-        Player robot;
-
-        if (players.get(0).getUser() == null) {
-            player = players.get(1);
-            robot = players.get(0);
-        } else {
-            player = players.get(0);
-            robot = players.get(1);
-        }
-
-        if (dto.getBuy()) {
-            gameEngine.purchaseStep(player);
-        }
-
-        gameEngine.moveStep(robot);
+    public JsonNode interactWithGame(@PathVariable("id") Long id,
+                                     @RequestBody GameInteractionDTO dto,
+                                     @RequestParam(value = "since", required = false) Long since,
+                                     @RequestHeader(value = IdempotencyService.HEADER,
+                                             required = false) String idempotencyKey,
+                                     Authentication authentication) throws
+            GameManagementException, GameFaultyMoveException, GameOverException,
+            GameConflictException, GameRequestMismatchException {
+        JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
+        return idempotencyService.execute(id, usernameOf(token), "interact",
+                Arrays.asList(dto, since), idempotencyKey, () -> {
+            User user = userService.promoteToUser(token);
+            return respond(gameTurnService.playTurn(user, id, dto.getBuy()), since);
+        });
+    }
 
-        if (gameEngine.canBuy(robot, game, robot.getLocation())) {
-            Integer cellPrice = cellPriceService.getCellPrice(game.getGameTableConfiguration(),
-                    robot.getLocation());
-            if (aiPlayerRunner.decideToBuy(robot.getMoney(), cellPrice)) {
-                gameEngine.purchaseStep(robot);
-            }
+    /**
+     * Simulates many whole turns in game at once.
+     * <br><br>
+     * Each turn is played as in {@link #interactWithGame}, deciding the purchase of the user
+     * with the buy policy in the request. The turns stop when the game is over.
+     *
+     * @param id             Id of the {@link Game} object
+     * @param dto            {@link GameTurnsDTO} object for specifying the number of turns and
+     *                       the buy policy
+     * @param idempotencyKey optional key identifying the interaction
+     * @param authentication {@link Authentication} object supplied by Spring Security
+     * @return summaries of the played turns, or 400 Bad Request if the count is not positive or
+     * the threshold policy is given without a price
+     * @throws GameManagementException if the user has no access to such game
+     * @throws GameConflictException   if the game keeps being modified by concurrent requests
+     * @throws GameRequestMismatchException if the idempotency key was used with another request
+     */
+    @PostMapping("/{id}/turns")
+    public JsonNode playTurns(@PathVariable("id") Long id, @Valid @RequestBody GameTurnsDTO dto,
+                              @RequestHeader(value = IdempotencyService.HEADER,
+                                      required = false) String idempotencyKey,
+                              Authentication authentication) throws GameManagementException,
+            GameConflictException, GameRequestMismatchException {
+        JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
+        try {
+            return idempotencyService.execute(id, usernameOf(token), "turns", dto,
+                    idempotencyKey, () -> {
+                User user = userService.promoteToUser(token);
+                return gameTurnService.playTurns(user, id, dto.getCount(), dto.getBuy(),
+                        dto.getMaxPrice());
+            });
+        } catch (GameFaultyMoveException | GameOverException e) {
+            // The turns stop at the end of the game, and only buy the cells that can be bought
+            throw new IllegalStateException(e);
         }
-
-        gameEngine.moveStep(player);
-
-        return game;
     }
 
     /**
@@ -192,18 +293,64 @@ public class GameController {
      * @param id             Id of the {@link Game} object
      * @param authentication {@link Authentication} object supplied by Spring Security
      * @param params         A {@link Map} with key "id" and value of a player id
+     * @param since          optional last turn the client has seen
+     * @param idempotencyKey optional key identifying the interaction
      * @return The resulting game state if the player survives
      * @throws GameManagementException if the user has no access to such game
      * @throws GameOverException       if the victim goes bankrupt
+     * @throws GameConflictException   if the game keeps being modified by concurrent requests
+     * @throws GameRequestMismatchException if the idempotency key was used with another request
      */
     @PostMapping("/{id}/nuke")
-    public Game nukeGame(@PathVariable("id") Long id, Authentication authentication,
-                         @RequestBody Map<String, Integer> params) throws GameManagementException
-            , GameOverException {
-        User user = userService.promoteToUser((JwtAuthenticationToken) authentication);
-        Game game = gameManager.getGame(user, id);
-        gameEngine.nukeGame(game.getPlayers().get(params.get("id") - 1), game);
-        return game;
+    public JsonNode nukeGame(@PathVariable("id") Long id, Authentication authentication,
+                             @RequestBody Map<String, Integer> params,
+                             @RequestParam(value = "since", required = false) Long since,
+                             @RequestHeader(value = IdempotencyService.HEADER,
+                                     required = false) String idempotencyKey) throws
+            GameManagementException, GameFaultyMoveException, GameOverException,
+            GameConflictException, GameRequestMismatchException {
+        JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
+        return idempotencyService.execute(id, usernameOf(token), "nuke",
+                Arrays.asList(params, since), idempotencyKey, () -> {
+            User user = userService.promoteToUser(token);
+            return respond(gameTurnService.nukeGame(user, id, params.get("id")), since);
+        });
+    }
+
+    /**
+     * Returns the weak entity tag of the response for a game in the given turn. Responses with
+     * the changes since different turns, or in different formats, have different tags.
+     */
+    private static String etagOf(Long turn, Long since, String format) {
+        return "W/\"" + format + "-" + turn + (since == null ? "" : "-" + since) + "\"";
+    }
+
+    /**
+     * Returns the format the response to the request is written in, as negotiated from its
+     * 'Accept' header.
+     */
+    private static String formatOf(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MediaType.sortBySpecificityAndQuality(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return "json";
+                } else if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return "cbor";
+                }
+            }
+        }
+        return "json";
+    }
+
+    private Object respond(Game game, Long since) {
+        return since == null ? game : deltaService.getDelta(game, since);
+    }
+
+    private static String usernameOf(JwtAuthenticationToken token) {
+        return token.getTokenAttributes().get("username").toString();
     }
 
 }
@@ -1,17 +1,21 @@
 package group2.monopoly.game.controller;
 
-import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.payload.ScoreboardPageDTO;
 import group2.monopoly.game.service.ScoreboardService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @Slf4j
-@RequestMapping(value = "/api/scoreboard", produces = "application/json", consumes = "application/json")
+@RequestMapping(value = "/api/scoreboard", produces = {MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE}, consumes = {MediaType.APPLICATION_JSON_VALUE,
+        MediaType.APPLICATION_CBOR_VALUE})
 public class ScoreboardController {
     private final ScoreboardService scoreboardService;
 
@@ -19,14 +23,43 @@ public class ScoreboardController {
         this.scoreboardService = scoreboardService;
     }
 
+    /**
+     * Lists the best scores of the last week.
+     * <br><br>
+     * Each entry keeps the {@code id}, {@code score} and {@code user.username} fields of the
+     * players listed before the scoreboards were paginated, and adds the {@code gameId} and
+     * {@code completionDate} of the game. The other player fields are no longer returned.
+     *
+     * @param limit the maximum number of entries, capped by the server
+     * @param after the cursor of the previous page
+     * @return a page of the scoreboard
+     */
     @GetMapping(value = "pastweek")
-    List<Player> weeklyBest() {
-        return scoreboardService.bestOfLastWeek();
+    ScoreboardPageDTO weeklyBest(@RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) String after) {
+        try {
+            return scoreboardService.bestOfLastWeek(limit, after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
+    /**
+     * Lists the best scores of all time. The entries are the same as in
+     * {@link #weeklyBest(Integer, String)}.
+     *
+     * @param limit the maximum number of entries, capped by the server
+     * @param after the cursor of the previous page
+     * @return a page of the scoreboard
+     */
     @GetMapping(value = "alltime")
-    List<Player> alltimeBest() {
-        return scoreboardService.bestOfAllTimes();
+    ScoreboardPageDTO alltimeBest(@RequestParam(required = false) Integer limit,
+                                  @RequestParam(required = false) String after) {
+        try {
+            return scoreboardService.bestOfAllTimes(limit, after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package group2.monopoly.game.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import group2.monopoly.auth.entity.User;
 import lombok.*;
 import org.hibernate.Hibernate;
@@ -17,17 +18,33 @@ import java.util.Objects;
 @Getter
 @Setter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 @Entity(name = "game")
+@Table(indexes = @Index(name = "game_completion_date", columnList = "completion_date"),
+        uniqueConstraints = @UniqueConstraint(name = Game.NAME_CONSTRAINT, columnNames = "name"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class Game {
+    /**
+     * Name of the unique constraint of the name column.
+     */
+    public static final String NAME_CONSTRAINT = "game_name";
+
     @Id
-    @SequenceGenerator(name = "game_seq")
+    @SequenceGenerator(name = "game_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_seq")
     @Column(name = "id")
     private Long id;
 
+    /**
+     * Version of the row, incremented on each update. Concurrent updates of the same version
+     * fail instead of overwriting each other.
+     */
+    @Version
+    @JsonIgnore
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "owner")
     private User owner;
@@ -39,7 +56,7 @@ public class Game {
 
     @NonNull
     @NotBlank
-    @Column(name = "name", nullable = false, unique = true)
+    @Column(name = "name", nullable = false)
     private String name;
 
     @NonNull
@@ -47,12 +64,69 @@ public class Game {
     @Column(name = "turn", nullable = false)
     private Long turn = 0L;
 
+    /**
+     * Position of the next roll of the game in the dice file.
+     *
+     * @see group2.monopoly.game.service.engine.FileDiceGenerator
+     */
+    @NonNull
+    @Builder.Default
+    @JsonIgnore
+    @Column(name = "dice_cursor", nullable = false)
+    private Long diceCursor = 0L;
+
+    /**
+     * Seed of the random dice stream of the game.
+     *
+     * @see group2.monopoly.game.service.engine.RandomDiceGeneratorService
+     */
+    @NonNull
+    @Builder.Default
+    @JsonIgnore
+    @Column(name = "dice_seed", nullable = false)
+    private Long diceSeed = 0L;
+
     @Column(name = "completion_date")
     private Date completionDate;
 
-    @Embedded
+    /**
+     * The table of the game, stored as the canonical encoding of its layout.
+     *
+     * @see TableLayout
+     */
+    @NonNull
+    @Convert(converter = GameTableConfigurationConverter.class)
+    @Column(name = "board_layout", nullable = false)
     private GameTableConfiguration gameTableConfiguration;
 
+    /**
+     * The registered layout of the table of the game. Only maps the foreign key of the
+     * 'board_layout' column, which is written through {@link #gameTableConfiguration}.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_layout", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "game_board_layout"))
+    private TableLayout layout;
+
+    /**
+     * Events recorded since the game was last persisted, in the order they happened.
+     */
+    @Builder.Default
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    private List<GameEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * Advances the game to its next turn. Events recorded afterwards belong to the new turn.
+     */
+    public void beginTurn() {
+        turn = turn + 1;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
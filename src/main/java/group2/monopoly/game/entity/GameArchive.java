@@ -0,0 +1,71 @@
+package group2.monopoly.game.entity;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that represents a completed {@link Game} moved out of the 'game' and
+ * 'player' tables.
+ * <br><br>
+ * The final state of the game, including the scores of its players, is kept as a single
+ * compressed blob, which is the deflated JSON representation of the game.
+ *
+ * @see group2.monopoly.game.service.archive.GameArchiveService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Immutable
+@Entity(name = "game_archive")
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameArchive implements Persistable<Long> {
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @NonNull
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @NonNull
+    @Column(name = "completion_date", nullable = false)
+    private Date completionDate;
+
+    @NonNull
+    @Lob
+    @ToString.Exclude
+    @Column(name = "state", nullable = false)
+    private byte[] state;
+
+    @Override
+    public Long getId() {
+        return gameId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        GameArchive archive = (GameArchive) o;
+        return gameId != null && Objects.equals(gameId, archive.gameId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
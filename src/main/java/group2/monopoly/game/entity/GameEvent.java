@@ -0,0 +1,76 @@
+package group2.monopoly.game.entity;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that represents a single change in the state of a {@link Game}.
+ * <br><br>
+ * Events are only ever appended. The events of a game, ordered by their turn and sequence
+ * number, form the full history of the game, and applying them to a {@link GameSnapshot}
+ * results in the state of the game in a later turn.
+ * <br>
+ * Players are referred to with their slots, i.e. their indices in the players of the game.
+ *
+ * @see GameEventType
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Entity(name = "game_event")
+@Table(indexes = @Index(name = "game_event_game_turn", columnList = "game_id, turn, seq"))
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameEvent {
+    @Id
+    @SequenceGenerator(name = "game_event_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_event_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @NonNull
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @NonNull
+    @Column(name = "turn", nullable = false)
+    private Long turn;
+
+    @Column(name = "seq", nullable = false)
+    private int seq;
+
+    @NonNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private GameEventType type;
+
+    @Column(name = "player_slot", nullable = false)
+    private int playerSlot;
+
+    @Column(name = "arg1", nullable = false)
+    private int arg1;
+
+    @Column(name = "arg2", nullable = false)
+    private int arg2;
+
+    @Column(name = "arg3", nullable = false)
+    private int arg3;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        GameEvent event = (GameEvent) o;
+        return id != null && Objects.equals(id, event.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,54 @@
+package group2.monopoly.game.entity;
+
+/**
+ * Types of the {@link GameEvent}s recorded by the game engine.
+ * <br><br>
+ * The meaning of the arguments of an event depends on its type, as documented for each type.
+ * Unused arguments are zero.
+ */
+public enum GameEventType {
+    /**
+     * The player served a turn of their jail time. The first argument is the remaining jail time.
+     */
+    JAIL_TIME_SERVED,
+    /**
+     * The player rolled the dice. The first and the second arguments are the rolled dice.
+     */
+    DICE_ROLLED,
+    /**
+     * The player moved. The first argument is the previous location and the second argument is
+     * the new location.
+     */
+    MOVED,
+    /**
+     * The player went past the starting point. The first argument is the paid salary.
+     */
+    SALARY_PAID,
+    /**
+     * The player landed on the income tax cell. The first argument is the paid tax.
+     */
+    INCOME_TAX_PAID,
+    /**
+     * The player paid rent to another player. The first argument is the index of the cell, the
+     * second argument is the rent and the third argument is the slot of the owner.
+     */
+    RENT_PAID,
+    /**
+     * The player purchased a cell. The first argument is the index of the cell and the second
+     * argument is its price.
+     */
+    PURCHASED,
+    /**
+     * The player was sent to jail. The first argument is 1 if the player rolled three successive
+     * doubles, 0 if they landed on 'Go to Jail' cell.
+     */
+    JAILED,
+    /**
+     * The player was charged. The first argument is the charged amount.
+     */
+    CHARGED,
+    /**
+     * The player went bankrupt.
+     */
+    BANKRUPT
+}
@@ -0,0 +1,60 @@
+package group2.monopoly.game.entity;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that counts the turns of a {@link Game} recorded in its {@link GameEvent}s
+ * since its latest {@link GameSnapshot}.
+ * <br><br>
+ * The row is inserted with the first snapshot of the game, and the counter is then only changed
+ * by relative bulk updates, so that appending turns and compacting the history neither overwrite
+ * each other nor touch the versioned game row. The counter is indexed, so that the compactor finds
+ * the games due for a snapshot without scanning the event log.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Entity(name = "game_history")
+@Table(indexes = @Index(name = "game_history_pending_turns", columnList = "pending_turns"))
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameHistory implements Persistable<Long> {
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @NonNull
+    @Builder.Default
+    @Column(name = "pending_turns", nullable = false)
+    private Long pendingTurns = 0L;
+
+    @Override
+    public Long getId() {
+        return gameId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        GameHistory history = (GameHistory) o;
+        return gameId != null && Objects.equals(gameId, history.gameId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,58 @@
+package group2.monopoly.game.entity;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that represents the encoded state of a {@link Game} at the end of a turn.
+ * <br><br>
+ * The state is encoded with
+ * {@link group2.monopoly.game.service.engine.core.BoardState#toBytes()}. Snapshots are written
+ * when a game is created and periodically afterwards, so that the state of a game can be rebuilt
+ * without replaying all of its {@link GameEvent}s.
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Entity(name = "game_snapshot")
+@Table(indexes = @Index(name = "game_snapshot_game_turn", columnList = "game_id, turn"))
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSnapshot {
+    @Id
+    @SequenceGenerator(name = "game_snapshot_seq", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_snapshot_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @NonNull
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @NonNull
+    @Column(name = "turn", nullable = false)
+    private Long turn;
+
+    @NonNull
+    @ToString.Exclude
+    @Column(name = "state", nullable = false, length = 512)
+    private byte[] state;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        GameSnapshot snapshot = (GameSnapshot) o;
+        return id != null && Objects.equals(id, snapshot.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
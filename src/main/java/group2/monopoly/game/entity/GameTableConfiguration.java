@@ -1,34 +1,63 @@
 package group2.monopoly.game.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import group2.monopoly.game.service.engine.core.BoardLayout;
 import lombok.*;
 
-import javax.persistence.Column;
-import javax.persistence.ElementCollection;
-import javax.persistence.Embeddable;
-import javax.persistence.Entity;
-import javax.validation.constraints.NotNull;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
- * {@link Entity} class that describes the static configuration of a game table.
+ * Immutable description of the static configuration of a game table.
+ * <br><br>
+ * Tables are not stored with the games. A {@link Game} only stores the canonical encoding of its
+ * table (see {@link GameTableConfigurationConverter}), and the tables themselves are registered
+ * once in the 'board_layout' table, see {@link TableLayout}.
  */
 @Getter
-@Setter
 @ToString
-@Builder
-@Embeddable
 @EqualsAndHashCode
-@NoArgsConstructor
-@AllArgsConstructor
-public class GameTableConfiguration {
-    @NotNull
-    @Column(name="income_tax_index", nullable = false)
-    private Integer incomeTaxIndex;
-
-    @ElementCollection
-    private List<Integer> propertyIndices = new ArrayList<>();
-
-    @ElementCollection
-    private List<Integer> portIndices = new ArrayList<>();
+public final class GameTableConfiguration {
+    private final Integer incomeTaxIndex;
+
+    private final List<Integer> propertyIndices;
+
+    private final List<Integer> portIndices;
+
+    /**
+     * The interned layout of this table, found once by {@link #getLayout()}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile BoardLayout layout;
+
+    /**
+     * Creates a table configuration. The given lists are copied.
+     *
+     * @param incomeTaxIndex  the index of the income tax cell
+     * @param propertyIndices the indices of the property cells, in the order of their prices
+     * @param portIndices     the indices of the port cells
+     */
+    public GameTableConfiguration(Integer incomeTaxIndex, List<Integer> propertyIndices,
+                                  List<Integer> portIndices) {
+        this.incomeTaxIndex = incomeTaxIndex;
+        this.propertyIndices = List.copyOf(propertyIndices);
+        this.portIndices = List.copyOf(portIndices);
+    }
+
+    /**
+     * Returns the interned layout of this table. The layout is looked up by the encoding of the
+     * table the first time, and kept with the table afterwards.
+     *
+     * @return the layout of this table
+     */
+    @JsonIgnore
+    public BoardLayout getLayout() {
+        BoardLayout found = layout;
+        if (found == null) {
+            found = BoardLayout.of(BoardLayout.encode(this));
+            layout = found;
+        }
+        return found;
+    }
 }
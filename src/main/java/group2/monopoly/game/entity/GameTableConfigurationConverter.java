@@ -0,0 +1,27 @@
+package group2.monopoly.game.entity;
+
+import group2.monopoly.game.service.engine.core.BoardLayout;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Stores a {@link GameTableConfiguration} as the canonical encoding of its
+ * {@link BoardLayout}.
+ * <br><br>
+ * Tables read from the database are the interned tables of their layouts, so loading a game
+ * needs neither a join nor an allocation for its table.
+ */
+@Converter
+public class GameTableConfigurationConverter implements
+        AttributeConverter<GameTableConfiguration, Long> {
+    @Override
+    public Long convertToDatabaseColumn(GameTableConfiguration table) {
+        return table == null ? null : table.getLayout().getEncoding();
+    }
+
+    @Override
+    public GameTableConfiguration convertToEntityAttribute(Long encoding) {
+        return encoding == null ? null : BoardLayout.of(encoding).toTable();
+    }
+}
@@ -0,0 +1,95 @@
+package group2.monopoly.game.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+import javax.persistence.*;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that represents the final score of a player of a completed {@link Game}.
+ * <br><br>
+ * Entries are written once when a game ends and never updated, so that the scoreboards are read
+ * from the indices of this table instead of sorting every finished {@link Player}. A user has at
+ * most one entry per game.
+ * <br>
+ * Entries are serialized with the {@code id}, {@code score} and {@code user.username} fields of
+ * the {@link Player}s formerly listed by the scoreboards, so that clients reading those fields
+ * keep working.
+ *
+ * @see group2.monopoly.game.service.ScoreboardService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Entity(name = "leaderboard_entry")
+@Table(indexes = {
+        @Index(name = "leaderboard_entry_score", columnList = "score, id"),
+        @Index(name = "leaderboard_entry_completion_score", columnList = "completion_date, score")
+}, uniqueConstraints = @UniqueConstraint(name = "leaderboard_entry_game_username",
+        columnNames = {"game_id", "username"}))
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntry {
+    @Id
+    @SequenceGenerator(name = "leaderboard_entry_seq")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leaderboard_entry_seq")
+    @Column(name = "id")
+    private Long id;
+
+    @NonNull
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    /**
+     * Username of the player, or null if the player is the computer.
+     */
+    @JsonIgnore
+    @Column(name = "username")
+    private String username;
+
+    @NonNull
+    @Column(name = "score", nullable = false)
+    private Integer score;
+
+    @NonNull
+    @Column(name = "completion_date", nullable = false)
+    private Date completionDate;
+
+    /**
+     * Gets the user of the entry, as serialized in place of the {@link Player#getUser()} of the
+     * former scoreboards.
+     *
+     * @return the user of the entry, or null if the player is the computer
+     */
+    @JsonProperty("user")
+    public UserRef getUser() {
+        return username == null ? null : new UserRef(username);
+    }
+
+    /**
+     * Reference to the user of an entry, carrying only the username.
+     *
+     * @param username the username of the user
+     */
+    public record UserRef(String username) {
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        LeaderboardEntry entry = (LeaderboardEntry) o;
+        return id != null && Objects.equals(id, entry.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
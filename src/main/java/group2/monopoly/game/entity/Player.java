@@ -20,18 +20,27 @@ import java.util.*;
 @Getter
 @Setter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 @Entity(name = "player")
 @NoArgsConstructor
 @AllArgsConstructor
 public class Player {
 
     @Id
-    @SequenceGenerator(name = "player_seq")
+    @SequenceGenerator(name = "player_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
     @Column(name = "id")
     private Long id;
 
+    /**
+     * Optimistic lock of the player, so that a turn working on a stale copy of the player can
+     * not overwrite it.
+     */
+    @Version
+    @JsonIgnore
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @NonNull
     @Column(name = "money", nullable = false)
     private Integer money;
@@ -60,13 +69,32 @@ public class Player {
     @Column(name = "turn_order", nullable = false)
     private Integer turnOrder;
 
+    /**
+     * The cells owned by the player, as a mask with the bit of each owned cell index set.
+     */
+    @NonNull
+    @Builder.Default
+    @JsonIgnore
+    @Column(name = "owned_mask", nullable = false)
+    private Integer ownedMask = 0;
+
+    /**
+     * The first die of the last roll of the player, or 0 if the player has not rolled yet.
+     */
+    @NonNull
     @Builder.Default
-    @ElementCollection(fetch = FetchType.EAGER)
-    private Set<Integer> ownedPurchasables = new HashSet<>();
+    @JsonIgnore
+    @Column(name = "last_die_1", nullable = false)
+    private Integer lastDie1 = 0;
 
+    /**
+     * The second die of the last roll of the player, or 0 if the player has not rolled yet.
+     */
+    @NonNull
     @Builder.Default
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Integer> lastDice = new ArrayList<>();
+    @JsonIgnore
+    @Column(name = "last_die_2", nullable = false)
+    private Integer lastDie2 = 0;
 
     @ManyToOne
     @JoinColumn(name = "user_id")
@@ -77,6 +105,28 @@ public class Player {
     @JsonIgnore
     private Game game;
 
+    /**
+     * Returns the indices of the cells owned by the player.
+     *
+     * @return the owned cell indices, in ascending order
+     */
+    public Set<Integer> getOwnedPurchasables() {
+        Set<Integer> cells = new LinkedHashSet<>();
+        for (int rest = ownedMask; rest != 0; rest &= rest - 1) {
+            cells.add(Integer.numberOfTrailingZeros(rest));
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the dice the player rolled last.
+     *
+     * @return the two dice of the last roll, or an empty list if the player has not rolled yet
+     */
+    public List<Integer> getLastDice() {
+        return lastDie1 == 0 ? List.of() : List.of(lastDie1, lastDie2);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,79 @@
+package group2.monopoly.game.entity;
+
+import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.util.Objects;
+
+/**
+ * {@link Entity} class that registers a game table layout that at least one game is played on.
+ * <br><br>
+ * Layouts are identified by the canonical encoding of their
+ * {@link group2.monopoly.game.service.engine.core.BoardLayout}, which is also the value games
+ * store in their 'board_layout' column, a foreign key to this table. The rows are written once
+ * per layout and never updated, so a layout is always new when it is saved, and is persisted
+ * rather than merged. The service saving it checks that it is not registered yet, and a layout
+ * registered concurrently makes the insert fail on the primary key instead of overwriting it.
+ *
+ * @see group2.monopoly.game.service.manager.TableLayoutService
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@Immutable
+@Entity(name = "board_layout")
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableLayout implements Persistable<Long> {
+    @Id
+    @Column(name = "encoding")
+    private Long encoding;
+
+    @NonNull
+    @Column(name = "income_tax_index", nullable = false)
+    private Integer incomeTaxIndex;
+
+    /**
+     * Comma-separated indices of the property cells, in the order of their prices.
+     */
+    @NonNull
+    @Column(name = "property_indices", nullable = false)
+    private String propertyIndices;
+
+    /**
+     * Comma-separated indices of the port cells.
+     */
+    @NonNull
+    @Column(name = "port_indices", nullable = false)
+    private String portIndices;
+
+    @Override
+    public Long getId() {
+        return encoding;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o))
+            return false;
+        TableLayout layout = (TableLayout) o;
+        return encoding != null && Objects.equals(encoding, layout.encoding);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
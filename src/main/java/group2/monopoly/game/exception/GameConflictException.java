@@ -0,0 +1,11 @@
+package group2.monopoly.game.exception;
+
+/**
+ * Exception that is thrown when a game is concurrently modified by another request, and the
+ * action could not be applied on its latest state within the allowed number of attempts.
+ */
+public class GameConflictException extends Exception {
+    public GameConflictException(String message) {
+        super(message);
+    }
+}
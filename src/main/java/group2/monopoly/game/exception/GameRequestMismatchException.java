@@ -0,0 +1,11 @@
+package group2.monopoly.game.exception;
+
+/**
+ * Exception that is thrown when an idempotency key is reused for a request that differs from
+ * the request first submitted with the key.
+ */
+public class GameRequestMismatchException extends Exception {
+    public GameRequestMismatchException(String message) {
+        super(message);
+    }
+}
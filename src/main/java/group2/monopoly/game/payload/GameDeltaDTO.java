@@ -0,0 +1,48 @@
+package group2.monopoly.game.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO object representing the changes in the state of a game since a turn the client has seen.
+ * <br><br>
+ * Only the players whose state changed are included, and only with the fields that changed.
+ * If the requested turn is not a turn of the game, {@link #since} is 0 and every field of every
+ * player is included, so that the client can replace its state altogether.
+ *
+ * @see group2.monopoly.game.service.history.GameDeltaService
+ */
+@Data
+@AllArgsConstructor
+public class GameDeltaDTO {
+    private Long id;
+    private Long since;
+    private Long turn;
+    private List<PlayerDelta> players;
+
+    /**
+     * Changed fields of a player. Unchanged fields are null and left out of the response.
+     */
+    @Data
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PlayerDelta {
+        /**
+         * Index of the player in the players of the game.
+         */
+        private int slot;
+        private Integer money;
+        private Integer location;
+        private Integer remainingJailTime;
+        private List<Integer> lastDice;
+
+        /**
+         * The cells the player purchased since the requested turn.
+         */
+        private Set<Integer> purchased;
+    }
+}
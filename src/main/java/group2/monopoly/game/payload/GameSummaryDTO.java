@@ -0,0 +1,36 @@
+package group2.monopoly.game.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO object representing an ongoing game in the game listing.
+ * <br><br>
+ * Only the fields needed to list and pick a game are included. The whole state of a game is
+ * retrieved separately.
+ *
+ * @see group2.monopoly.game.service.manager.GameManagerService#getAvailableGames
+ */
+@Data
+@AllArgsConstructor
+public class GameSummaryDTO {
+    private Long id;
+    private String name;
+    private Long turn;
+    private String owner;
+    private List<PlayerSummary> players;
+
+    /**
+     * Summary of a player of the listed game. The username of the computer player is null.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class PlayerSummary {
+        private Integer turnOrder;
+        private String username;
+        private Integer money;
+        private Integer location;
+    }
+}
@@ -0,0 +1,54 @@
+package group2.monopoly.game.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+/**
+ * DTO object representing a request to play many turns of a game at once.
+ *
+ * @see group2.monopoly.game.service.GameTurnService#playTurns
+ */
+@Data
+public class GameTurnsDTO {
+    /**
+     * The number of turns to play, capped by the server.
+     */
+    @NotNull
+    @Positive
+    private Integer count;
+
+    @NotNull
+    private BuyPolicy buy;
+
+    /**
+     * The highest price the user pays for a cell, used with {@link BuyPolicy#THRESHOLD}.
+     */
+    private Integer maxPrice;
+
+    /**
+     * Checks that the price is given when the buy policy is {@link BuyPolicy#THRESHOLD}.
+     *
+     * @return true if the price is given or not needed
+     */
+    @JsonIgnore
+    @AssertTrue(message = "maxPrice is required by the threshold policy")
+    public boolean isMaxPriceGiven() {
+        return buy != BuyPolicy.THRESHOLD || maxPrice != null;
+    }
+
+    /**
+     * Decides whether the user buys the cell they are on before each turn, if they can buy it.
+     */
+    public enum BuyPolicy {
+        ALWAYS,
+        NEVER,
+        /**
+         * Buys the cells priced at most {@link #maxPrice}.
+         */
+        THRESHOLD
+    }
+}
@@ -0,0 +1,32 @@
+package group2.monopoly.game.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO object representing the turns played at once on a game.
+ * <br><br>
+ * Each turn is summarized with the changes since the previous turn, in the order the turns
+ * were played.
+ *
+ * @see group2.monopoly.game.service.GameTurnService#playTurns
+ */
+@Data
+@AllArgsConstructor
+public class GameTurnsResultDTO {
+    private Long id;
+
+    /**
+     * The turn of the game after the played turns.
+     */
+    private Long turn;
+
+    /**
+     * Whether a player went bankrupt in the last played turn, ending the game.
+     */
+    private boolean over;
+
+    private List<GameDeltaDTO> turns;
+}
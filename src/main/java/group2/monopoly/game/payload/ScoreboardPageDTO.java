@@ -0,0 +1,26 @@
+package group2.monopoly.game.payload;
+
+import group2.monopoly.game.entity.LeaderboardEntry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO object representing a page of a scoreboard.
+ * <br><br>
+ * The entries are in descending order of score, and in descending order of id among equal
+ * scores. The next page is requested by passing {@link #next} as the cursor of the request.
+ *
+ * @see group2.monopoly.game.service.ScoreboardService
+ */
+@Data
+@AllArgsConstructor
+public class ScoreboardPageDTO {
+    private List<LeaderboardEntry> entries;
+
+    /**
+     * Cursor pointing after the last entry of this page, or null if this is the last page.
+     */
+    private String next;
+}
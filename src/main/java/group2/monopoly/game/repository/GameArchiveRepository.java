@@ -0,0 +1,12 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.GameArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA repository for {@link GameArchive} entities.
+ */
+@Repository
+public interface GameArchiveRepository extends JpaRepository<GameArchive, Long> {
+}
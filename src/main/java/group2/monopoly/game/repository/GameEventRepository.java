@@ -0,0 +1,27 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.GameEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA repository for {@link GameEvent} entities.
+ */
+@Repository
+public interface GameEventRepository extends JpaRepository<GameEvent, Long> {
+
+    List<GameEvent> findByGameIdAndTurnGreaterThanOrderByTurnAscSeqAsc(Long gameId, Long turn);
+
+    @Modifying
+    @Query("delete from game_event e where e.gameId = :gameId and e.turn <= :turn")
+    void deleteByGameIdUpToTurn(@Param("gameId") Long gameId, @Param("turn") Long turn);
+
+    @Modifying
+    @Query("delete from game_event e where e.gameId = :gameId")
+    void deleteByGameId(@Param("gameId") Long gameId);
+}
@@ -0,0 +1,29 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.GameHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JPA repository for {@link GameHistory} entities.
+ */
+@Repository
+public interface GameHistoryRepository extends JpaRepository<GameHistory, Long> {
+
+    @Query("select h.gameId from game_history h where h.pendingTurns >= :turns")
+    List<Long> findGameIdsWithPendingTurns(@Param("turns") long turns);
+
+    @Modifying
+    @Query("update game_history h set h.pendingTurns = h.pendingTurns + :turns " +
+           "where h.gameId = :gameId")
+    void addPendingTurns(@Param("gameId") Long gameId, @Param("turns") long turns);
+
+    @Modifying
+    @Query("delete from game_history h where h.gameId = :gameId")
+    void deleteByGameId(@Param("gameId") Long gameId);
+}
@@ -0,0 +1,27 @@
+package group2.monopoly.game.repository;
+
+/**
+ * Projection of a single player of a game in the game listing.
+ * <br><br>
+ * Each row carries the columns of both the game and the player, so that a whole listing is read
+ * with a single query without loading any entities.
+ *
+ * @see GameRepository#findUnfinishedGameListingByUser(group2.monopoly.auth.entity.User)
+ */
+public interface GameListingRow {
+    Long getGameId();
+
+    String getName();
+
+    Long getTurn();
+
+    String getOwner();
+
+    Integer getTurnOrder();
+
+    String getUsername();
+
+    Integer getMoney();
+
+    Integer getLocation();
+}
@@ -2,12 +2,15 @@ package group2.monopoly.game.repository;
 
 import group2.monopoly.auth.entity.User;
 import group2.monopoly.game.entity.Game;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JPA repository for {@link Game} entities.
@@ -19,6 +22,21 @@ public interface GameRepository extends JpaRepository<Game, Long> {
            ":user and g.completionDate is null")
     List<Game> findUnfinishedGamesByUser(@Param("user") User user);
 
+    /**
+     * Lists the players of the ongoing games the user is a player of, ordered by game and turn
+     * order.
+     *
+     * @param user the user
+     * @return one row per player of each game
+     */
+    @Query("select g.id as gameId, g.name as name, g.turn as turn, o.username as owner, " +
+           "p.turnOrder as turnOrder, u.username as username, p.money as money, " +
+           "p.location as location from game g left join g.owner o inner join g.players p " +
+           "left join p.user u where g.completionDate is null and g.id in " +
+           "(select mine.game.id from player mine where mine.user = :user) " +
+           "order by g.id, p.turnOrder")
+    List<GameListingRow> findUnfinishedGameListingByUser(@Param("user") User user);
+
     @Query("select g from game g inner join g.players player inner join player.user u where u = " +
            ":user")
     List<Game> findGamesByUser(@Param("user") User user);
@@ -29,7 +47,17 @@ public interface GameRepository extends JpaRepository<Game, Long> {
 
     List<Game> findAllByOwnerAndCompletionDateIsNotNull(User owner);
 
-
-
-    Boolean existsByName(String name);
+    /**
+     * Looks up the turn of the game without loading the game, if the user is a player of it.
+     *
+     * @param gameId id of the game
+     * @param user   the user
+     * @return the turn of the game, or empty if no such game that the user is a player of exists
+     */
+    @Query("select g.turn from game g where g.id = :gameId and exists " +
+           "(select mine.id from player mine where mine.game = g and mine.user = :user)")
+    Optional<Long> findTurnByIdAndPlayer(@Param("gameId") Long gameId, @Param("user") User user);
+
+    @Query("select g.id from game g where g.completionDate < :before order by g.completionDate")
+    List<Long> findIdsCompletedBefore(@Param("before") Date before, Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.GameSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA repository for {@link GameSnapshot} entities.
+ */
+@Repository
+public interface GameSnapshotRepository extends JpaRepository<GameSnapshot, Long> {
+
+    Optional<GameSnapshot> findFirstByGameIdOrderByTurnDesc(Long gameId);
+
+    @Modifying
+    @Query("delete from game_snapshot s where s.gameId = :gameId and s.turn < :turn")
+    void deleteByGameIdBeforeTurn(@Param("gameId") Long gameId, @Param("turn") Long turn);
+
+    @Modifying
+    @Query("delete from game_snapshot s where s.gameId = :gameId")
+    void deleteByGameId(@Param("gameId") Long gameId);
+}
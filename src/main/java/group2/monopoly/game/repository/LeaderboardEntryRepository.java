@@ -0,0 +1,43 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.LeaderboardEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * JPA repository for {@link LeaderboardEntry} entities.
+ * <br><br>
+ * Entries are ordered by descending score, and by descending id among equal scores. Pages after
+ * the first one are sought after the score and id of the last entry of the previous page, so
+ * that a page is read from the index without skipping the entries before it.
+ */
+@Repository
+public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEntry, Long> {
+
+    List<LeaderboardEntry> findAllByOrderByScoreDescIdDesc(Pageable pageable);
+
+    @Query("select e from leaderboard_entry e where e.score < :score or (e.score = :score and " +
+           "e.id < :id) order by e.score desc, e.id desc")
+    List<LeaderboardEntry> findAllAfter(@Param("score") Integer score, @Param("id") Long id,
+                                        Pageable pageable);
+
+    List<LeaderboardEntry> findAllByCompletionDateGreaterThanEqualOrderByScoreDescIdDesc(
+            Date start, Pageable pageable);
+
+    @Query("select e from leaderboard_entry e where e.completionDate >= :start and (e.score " +
+           "< :score or (e.score = :score and e.id < :id)) order by e.score desc, e.id desc")
+    List<LeaderboardEntry> findAllCompletedAfter(@Param("start") Date start,
+                                                 @Param("score") Integer score,
+                                                 @Param("id") Long id, Pageable pageable);
+
+    @Query("select e from leaderboard_entry e where e.completionDate >= :start and " +
+           "e.completionDate < :end order by e.score desc, e.id desc")
+    List<LeaderboardEntry> findAllCompletedBetween(@Param("start") Date start,
+                                                   @Param("end") Date end, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package group2.monopoly.game.repository;
+
+import group2.monopoly.game.entity.TableLayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA repository for {@link TableLayout} entities.
+ */
+@Repository
+public interface TableLayoutRepository extends JpaRepository<TableLayout, Long> {
+}
@@ -2,6 +2,7 @@ package group2.monopoly.game.service;
 
 import group2.monopoly.game.entity.GameTableConfiguration;
 import group2.monopoly.game.service.engine.IGameCellPrice;
+import group2.monopoly.game.service.engine.core.BoardLayout;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,17 +30,14 @@ public class GameScoreService {
      */
     public Integer computeScore(GameTableConfiguration table, List<Integer> properties,
                                 Integer money) {
-        Integer propertyScore = properties
-                .stream()
-                .filter(table.getPropertyIndices()::contains) // one of the 8 properties
-                .map(cellIndex -> gameCellPriceService.getPropertyPrice(table, cellIndex))
-                .reduce(0, Integer::sum);
-        Integer portScore = properties
-                .stream()
-                .filter(table.getPortIndices()::contains) // one of the 4 ports
-                .map(cellIndex -> gameCellPriceService.getPortPrice(table, cellIndex))
-                .reduce(0, Integer::sum);
-
-        return portScore + propertyScore + money;
+        BoardLayout layout = BoardLayout.of(table);
+        int score = money;
+        for (Integer cellIndex : properties) {
+            if (layout.isPurchasable(cellIndex)) {
+                // one of the 8 properties or the 4 ports
+                score += gameCellPriceService.getCellPrice(table, cellIndex);
+            }
+        }
+        return score;
     }
 }
@@ -0,0 +1,230 @@
+package group2.monopoly.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.service.history.GameDeltaService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Service class pushing the results of the turns of a game to its subscribed players as
+ * server-sent events.
+ * <br><br>
+ * Each action on the game is sent as a 'turn' event whose data is the
+ * {@link group2.monopoly.game.payload.GameDeltaDTO} of the turns it played, and whose id is the
+ * resulting turn. The action that ends the game is sent as an 'over' event, after which the
+ * stream is completed. A client that sees a turn whose 'since' is not the last turn it has seen
+ * has missed events, and should fetch the game again.
+ * <br>
+ * The events of each subscriber are buffered and sent by one of the
+ * 'monopoly.game.stream.threads' sending threads, so that turns never wait for the clients, and
+ * at most one task per subscriber waits for a thread. A subscriber whose buffer already holds
+ * 'monopoly.game.stream.buffer-size' unsent events is too slow to keep up, and is dropped by
+ * completing its stream. Streams time out after 'monopoly.game.stream.timeout'.
+ */
+@Slf4j
+@Service
+public class GameStreamService {
+    private final ObjectMapper objectMapper;
+
+    private final GameDeltaService deltaService;
+
+    private final Executor executor;
+
+    private final int bufferSize;
+
+    private final Duration timeout;
+
+    /**
+     * Subscribers of the games with at least one subscriber, by the id of the game.
+     */
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * An event to be sent. The stream is completed after sending the last event.
+     */
+    private record Message(String name, long id, String data, boolean last) {
+    }
+
+    @Autowired
+    public GameStreamService(ObjectMapper objectMapper, GameDeltaService deltaService,
+                             @Value("${monopoly.game.stream.threads}") int threads,
+                             @Value("${monopoly.game.stream.buffer-size}") int bufferSize,
+                             @Value("${monopoly.game.stream.timeout}") Duration timeout) {
+        this(objectMapper, deltaService, Executors.newFixedThreadPool(threads), bufferSize,
+                timeout);
+    }
+
+    GameStreamService(ObjectMapper objectMapper, GameDeltaService deltaService,
+                      Executor executor, int bufferSize, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.deltaService = deltaService;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Subscribes to the turns of the game. The caller should check that the user has access to
+     * the game.
+     *
+     * @param gameId id of the game
+     * @return the stream of the turns
+     */
+    public SseEmitter subscribe(Long gameId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(gameId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Returns the number of the subscribers of the game.
+     *
+     * @param gameId id of the game
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount(Long gameId) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        return gameSubscribers == null ? 0 : gameSubscribers.size();
+    }
+
+    /**
+     * Sends the latest turns of the game to its subscribers.
+     *
+     * @param game  the game after the turns
+     * @param since the turn of the game before the turns
+     */
+    public void publish(Game game, long since) {
+        publish(game, since, "turn", false);
+    }
+
+    /**
+     * Sends the turns that ended the game to its subscribers, and completes their streams.
+     *
+     * @param gameOver the end of the game
+     * @param since    the turn of the game before the turns
+     */
+    public void publish(GameOverException gameOver, long since) {
+        publish(gameOver.getGame(), since, "over", true);
+    }
+
+    private void publish(Game game, long since, String name, boolean last) {
+        Set<Subscriber> gameSubscribers = subscribers.get(game.getId());
+        if (gameSubscribers == null || gameSubscribers.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(deltaService.getDelta(game, since));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        Message message = new Message(name, game.getTurn(), data, last);
+        for (Subscriber subscriber : gameSubscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * A stream of a game, with the events that are not sent yet.
+     */
+    private class Subscriber {
+        private final Long gameId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+
+        /**
+         * Whether a thread is sending the buffered events.
+         */
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(Long gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (!buffer.offer(message)) {
+                log.info("dropped a slow subscriber of game " + gameId);
+                close();
+                emitter.complete();
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                executor.execute(this::send);
+            }
+        }
+
+        /**
+         * Sends the buffered events until the buffer is empty.
+         */
+        void send() {
+            while (true) {
+                Message message = buffer.poll();
+                if (message == null) {
+                    sending.set(false);
+                    // an event may have been buffered after polling and before releasing
+                    if (buffer.isEmpty() || !sending.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    emitter.send(SseEmitter
+                            .event()
+                            .name(message.name())
+                            .id(Long.toString(message.id()))
+                            .data(message.data(), MediaType.APPLICATION_JSON));
+                    if (message.last()) {
+                        close();
+                        emitter.complete();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // the client is gone or the stream is already completed
+                    close();
+                    buffer.clear();
+                }
+            }
+        }
+
+        void close() {
+            subscribers.computeIfPresent(gameId, (id, game) -> {
+                game.remove(this);
+                return game.isEmpty() ? null : game;
+            });
+        }
+    }
+
+    /**
+     * Stops the threads sending the events.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+}
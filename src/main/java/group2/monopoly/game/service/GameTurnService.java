@@ -0,0 +1,238 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.exception.GameConflictException;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.payload.GameTurnsDTO.BuyPolicy;
+import group2.monopoly.game.payload.GameTurnsResultDTO;
+import group2.monopoly.game.service.ai.IAiPlayerRunner;
+import group2.monopoly.game.service.engine.IGameEngine;
+import group2.monopoly.game.service.history.GameDeltaService;
+import group2.monopoly.game.service.store.GameAction;
+import group2.monopoly.game.service.store.IGameStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class running whole game turns as a single unit of work.
+ * <br><br>
+ * Each turn is executed by the {@link IGameStore} as one action. The engine only mutates the
+ * {@link Game} and {@link Player} entities, and the store persists all the mutations of a turn
+ * at once, using JDBC batching for the player rows and their collection tables. Each action is
+ * a new turn of the game, so the events it records are grouped under its own turn number.
+ * <br>
+ * {@link Game} and {@link Player} rows are versioned, so an action that raced with another
+ * action on the same game fails when it is persisted. Such an action is applied again on the
+ * latest state of the game, at most 'monopoly.game.store.max-attempts' times in total.
+ * <br>
+ * The result of each action is pushed to the subscribers of the game with
+ * {@link GameStreamService} once the store has persisted it.
+ */
+@Slf4j
+@Service
+public class GameTurnService {
+    private final IGameStore gameStore;
+
+    private final IGameEngine gameEngine;
+
+    private final IAiPlayerRunner aiPlayerRunner;
+
+    private final GameStreamService streamService;
+
+    private final GameDeltaService deltaService;
+
+    private final int maxAttempts;
+
+    private final int maxTurns;
+
+    @Autowired
+    public GameTurnService(IGameStore gameStore, IGameEngine gameEngine,
+                           IAiPlayerRunner aiPlayerRunner, GameStreamService streamService,
+                           GameDeltaService deltaService,
+                           @Value("${monopoly.game.store.max-attempts}") int maxAttempts,
+                           @Value("${monopoly.game.turns.max-count}") int maxTurns) {
+        this.gameStore = gameStore;
+        this.gameEngine = gameEngine;
+        this.aiPlayerRunner = aiPlayerRunner;
+        this.streamService = streamService;
+        this.deltaService = deltaService;
+        this.maxAttempts = maxAttempts;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Simulates a whole turn in game.
+     * <br><br>
+     * The human player is in the purchase phase of their turn. Depending on the user's decision,
+     * the purchase is made. Following this, AI player plays a whole turn (consisting of movement
+     * phase and purchase phase). Finally, the movement phase of the human player is simulated.
+     *
+     * @param user   the user playing the turn
+     * @param gameId id of the game
+     * @param buy    whether the user wants to buy the cell they are on
+     * @return the resulting game state
+     * @throws GameManagementException if the user has no access to such game
+     * @throws GameFaultyMoveException if the user wants to buy a cell that can't be purchased
+     * @throws GameOverException       if a player goes bankrupt within the turn
+     * @throws GameConflictException   if the game keeps being modified concurrently
+     */
+    public Game playTurn(User user, Long gameId, boolean buy) throws GameManagementException,
+            GameFaultyMoveException, GameOverException, GameConflictException {
+        return execute(user, gameId, game -> {
+            Player player = humanOf(game);
+            gameEngine.playTurn(player, robotOf(game, player), buy, aiPlayerRunner);
+        });
+    }
+
+    /**
+     * Simulates many whole turns in game as a single action, deciding the purchases of the user
+     * with the given policy.
+     * <br><br>
+     * At most 'monopoly.game.turns.max-count' turns are played, and no turns are played after
+     * the game is over. Before each turn, the user buys the cell they are on if they can buy it
+     * and the policy allows it.
+     *
+     * @param user     the user playing the turns
+     * @param gameId   id of the game
+     * @param count    the number of turns to play
+     * @param policy   the buy policy of the user
+     * @param maxPrice the highest price the user pays for a cell with
+     *                 {@link BuyPolicy#THRESHOLD}
+     * @return the summaries of the played turns
+     * @throws GameManagementException  if the user has no access to such game
+     * @throws GameConflictException    if the game keeps being modified concurrently
+     * @throws IllegalArgumentException if the count is not positive, or the threshold policy is
+     *                                  given without a price
+     */
+    public GameTurnsResultDTO playTurns(User user, Long gameId, int count, BuyPolicy policy,
+                                        Integer maxPrice) throws GameManagementException,
+            GameConflictException {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        } else if (policy == BuyPolicy.THRESHOLD && maxPrice == null) {
+            throw new IllegalArgumentException("maxPrice is required by the threshold policy");
+        }
+        int turns = Math.min(count, maxTurns);
+        List<GameDeltaDTO> summaries = new ArrayList<>(turns);
+        try {
+            IAiPlayerRunner playerRunner = (money, price) -> switch (policy) {
+                case ALWAYS -> true;
+                case THRESHOLD -> price <= maxPrice;
+                case NEVER -> false;
+            };
+            Game game = execute(user, gameId, g -> {
+                summaries.clear();
+                for (int i = 0; i < turns; i++) {
+                    long since = g.getTurn();
+                    try {
+                        Player player = humanOf(g);
+                        gameEngine.playTurn(player, robotOf(g, player), playerRunner,
+                                aiPlayerRunner);
+                    } finally {
+                        summaries.add(deltaService.getDelta(g, since, eventsOfTurn(g)));
+                    }
+                }
+            });
+            return new GameTurnsResultDTO(game.getId(), game.getTurn(), false, summaries);
+        } catch (GameOverException e) {
+            return new GameTurnsResultDTO(gameId, e.getGame().getTurn(), true, summaries);
+        } catch (GameFaultyMoveException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the pending events of the current turn of the game.
+     *
+     * @param game the game
+     * @return the events of the current turn
+     */
+    private static List<GameEvent> eventsOfTurn(Game game) {
+        List<GameEvent> events = game.getPendingEvents();
+        int from = events.size();
+        while (from > 0 && events.get(from - 1).getTurn().equals(game.getTurn())) {
+            from--;
+        }
+        return events.subList(from, events.size());
+    }
+
+    /**
+     * Executes the action with the store, retrying it if it conflicts with a concurrent action,
+     * and pushes its result to the subscribers of the game.
+     *
+     * @param user   the user executing the action
+     * @param gameId id of the game
+     * @param action the action to be executed
+     * @return the resulting game state
+     * @throws GameConflictException if the action conflicts in all of the attempts
+     */
+    private Game execute(User user, Long gameId, GameAction action) throws
+            GameManagementException, GameFaultyMoveException, GameOverException,
+            GameConflictException {
+        for (int attempt = 1; ; attempt++) {
+            long[] since = new long[1];
+            try {
+                Game game = gameStore.execute(user, gameId, g -> {
+                    since[0] = g.getTurn();
+                    action.apply(g);
+                });
+                streamService.publish(game, since[0]);
+                return game;
+            } catch (GameOverException e) {
+                streamService.publish(e, since[0]);
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                log.info("turn of game " + gameId + " conflicted in attempt " + attempt);
+                if (attempt == maxAttempts) {
+                    throw new GameConflictException("game " + gameId + " was modified " +
+                                                    "concurrently, try again");
+                }
+            }
+        }
+    }
+
+    private static Player humanOf(Game game) {
+        List<Player> players = game.getPlayers();
+        return players.get(0).getUser() == null ? players.get(1) : players.get(0);
+    }
+
+    private static Player robotOf(Game game, Player human) {
+        List<Player> players = game.getPlayers();
+        return players.get(human == players.get(0) ? 1 : 0);
+    }
+
+    /**
+     * Afflicts the player in the given turn order with crippling debt.
+     *
+     * @param user        the user requesting the nuke
+     * @param gameId      id of the game
+     * @param playerIndex the one-based index of the victim in the game's players
+     * @return the resulting game state if the player survives
+     * @throws GameManagementException if the user has no access to such game
+     * @throws GameOverException       if the victim goes bankrupt
+     * @throws GameConflictException   if the game keeps being modified concurrently
+     */
+    public Game nukeGame(User user, Long gameId, int playerIndex) throws GameManagementException,
+            GameOverException, GameConflictException {
+        try {
+            return execute(user, gameId, game -> {
+                game.beginTurn();
+                gameEngine.nukeGame(game.getPlayers().get(playerIndex - 1), game);
+            });
+        } catch (GameFaultyMoveException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package group2.monopoly.game.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.game.exception.GameConflictException;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.exception.GameRequestMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service class replaying the responses of the game interactions that are submitted again with
+ * the same idempotency key.
+ * <br><br>
+ * The response of an interaction is kept with the id of the game, the user, the operation and
+ * the key supplied in the {@value #HEADER} header, along with a digest of the request. An
+ * interaction submitted again with the same key and the same request returns the kept response
+ * without running the turn again, and is rejected if the request differs. If the first
+ * submission is still running, the duplicate waits for it for at most
+ * 'monopoly.game.idempotency.wait-timeout'. Interactions that end the game are replayed by
+ * throwing the same {@link GameOverException}. Interactions that fail otherwise do not change
+ * the game, so they are not kept and run again when submitted again.
+ * <br>
+ * At most 'monopoly.game.idempotency.max-entries' responses are kept, each for
+ * 'monopoly.game.idempotency.ttl'.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxEntries;
+
+    private final Duration ttl;
+
+    private final Duration waitTimeout;
+
+    /**
+     * Kept responses in insertion order, guarded by itself.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * An interaction with a game that can be replayed. Returns the response body, which is
+     * either the resulting game state or a part of it.
+     */
+    @FunctionalInterface
+    public interface Interaction {
+        Object apply() throws GameManagementException, GameFaultyMoveException, GameOverException,
+                GameConflictException;
+    }
+
+    private record Key(Long gameId, String username, String operation, String idempotencyKey) {
+    }
+
+    /**
+     * Response of an interaction, which is either the resulting game state or the end of the
+     * game.
+     */
+    private record Outcome(JsonNode body, GameOverException gameOver) {
+        JsonNode replay() throws GameOverException {
+            if (gameOver != null) {
+                throw gameOver;
+            }
+            return body;
+        }
+    }
+
+    private static class Entry {
+        private final long createdAt = System.nanoTime();
+
+        /**
+         * SHA-256 digest of the request submitted with the key.
+         */
+        private final byte[] digest;
+
+        /**
+         * Completed with the outcome, or with null if the interaction failed and is not kept.
+         */
+        private final CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+
+        Entry(byte[] digest) {
+            this.digest = digest;
+        }
+    }
+
+    @Autowired
+    public IdempotencyService(ObjectMapper objectMapper,
+                              @Value("${monopoly.game.idempotency.max-entries}") int maxEntries,
+                              @Value("${monopoly.game.idempotency.ttl}") Duration ttl,
+                              @Value("${monopoly.game.idempotency.wait-timeout}")
+                              Duration waitTimeout) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Applies the interaction unless an interaction with the same key was applied before, and
+     * returns the resulting game state.
+     *
+     * @param gameId         id of the game
+     * @param username       username of the user interacting with the game
+     * @param operation      name of the kind of the interaction
+     * @param request        the parameters of the interaction, serializable to JSON
+     * @param idempotencyKey the key supplied by the client, or null to always apply the
+     *                       interaction
+     * @param interaction    the interaction
+     * @return the serialized game state
+     * @throws GameManagementException      if the user has no access to such game
+     * @throws GameFaultyMoveException      if the user makes an invalid move
+     * @throws GameOverException            if a player goes bankrupt within the interaction
+     * @throws GameConflictException        if the game keeps being modified concurrently, or
+     *                                      the first submission of the key is still running
+     * @throws GameRequestMismatchException if the key was first submitted with a different
+     *                                      request
+     */
+    public JsonNode execute(Long gameId, String username, String operation, Object request,
+                            String idempotencyKey, Interaction interaction) throws
+            GameManagementException, GameFaultyMoveException, GameOverException,
+            GameConflictException, GameRequestMismatchException {
+        if (idempotencyKey == null) {
+            return objectMapper.valueToTree(interaction.apply());
+        }
+        Key key = new Key(gameId, username, operation, idempotencyKey);
+        byte[] digest = digestOf(request);
+        while (true) {
+            Entry entry;
+            boolean first = false;
+            synchronized (entries) {
+                expire();
+                entry = entries.get(key);
+                if (entry == null) {
+                    entry = new Entry(digest);
+                    entries.put(key, entry);
+                    first = true;
+                    evictOverflow();
+                }
+            }
+            if (first) {
+                return apply(key, entry, interaction);
+            } else if (!MessageDigest.isEqual(entry.digest, digest)) {
+                throw new GameRequestMismatchException("idempotency key " + idempotencyKey
+                                                       + " was used with a different request");
+            }
+            Outcome outcome = await(entry, idempotencyKey);
+            if (outcome != null) {
+                log.info("replayed interaction " + idempotencyKey + " of game " + gameId);
+                return outcome.replay();
+            }
+            // the first submission failed, apply the interaction itself
+        }
+    }
+
+    /**
+     * Waits for the outcome of the first submission of a key.
+     *
+     * @return the outcome, or null if the first submission failed
+     * @throws GameConflictException        if the first submission is still running after the wait
+     */
+    private Outcome await(Entry entry, String idempotencyKey) throws GameConflictException {
+        try {
+            return entry.outcome.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new GameConflictException("interaction " + idempotencyKey
+                                            + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GameConflictException("interaction " + idempotencyKey
+                                            + " is still in progress");
+        } catch (ExecutionException e) {
+            // the outcome is never completed exceptionally
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] digestOf(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode apply(Key key, Entry entry, Interaction interaction) throws
+            GameManagementException, GameFaultyMoveException, GameOverException,
+            GameConflictException {
+        boolean kept = false;
+        try {
+            JsonNode body = objectMapper.valueToTree(interaction.apply());
+            entry.outcome.complete(new Outcome(body, null));
+            kept = true;
+            return body;
+        } catch (GameOverException e) {
+            entry.outcome.complete(new Outcome(null, e));
+            kept = true;
+            throw e;
+        } finally {
+            if (!kept) {
+                synchronized (entries) {
+                    entries.remove(key, entry);
+                }
+                entry.outcome.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Removes the expired entries. The caller should hold the lock of the entries.
+     */
+    private void expire() {
+        long expiredBefore = System.nanoTime() - ttl.toNanos();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (eldest.hasNext()) {
+            if (eldest.next().createdAt - expiredBefore >= 0) {
+                break;
+            }
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes the eldest entries beyond the capacity. The caller should hold the lock of the
+     * entries.
+     */
+    private void evictOverflow() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.game.entity.LeaderboardEntry;
+import group2.monopoly.game.repository.LeaderboardEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Service class keeping the best entries of the weekly and all-time scoreboards in memory.
+ * <br><br>
+ * The entries of the last {@link #DAYS} days are kept in a ring of per-day buckets, each holding
+ * the best entries of its day. Since the best entries of a week are among the best entries of
+ * its days, the weekly scoreboard is the merge of the buckets. A bucket is emptied once its day
+ * leaves the window. Days are UTC days, so the week consists of the current day and the
+ * {@code DAYS - 1} days before it.
+ * <br>
+ * Both scoreboards are published as an immutable {@link Snapshot}, so that reads do not lock.
+ * Updates are serialized and publish a new snapshot. The window is rebuilt from the database at
+ * startup.
+ */
+@Service
+@Slf4j
+public class LeaderboardWindowService {
+    public static final int DAYS = 7;
+
+    private static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparing(LeaderboardEntry::getScore)
+            .thenComparing(LeaderboardEntry::getId)
+            .reversed();
+
+    private final LeaderboardEntryRepository leaderboardRepository;
+
+    private final Clock clock;
+
+    private final int capacity;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public LeaderboardWindowService(LeaderboardEntryRepository leaderboardRepository,
+                                    @Value("${monopoly.scoreboard.size}") int size) {
+        this(leaderboardRepository, size, Clock.systemUTC());
+    }
+
+    LeaderboardWindowService(LeaderboardEntryRepository leaderboardRepository, int size,
+                             Clock clock) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.clock = clock;
+        // one more than the page size, to know whether a page has a next page
+        this.capacity = size + 1;
+        this.snapshot = Snapshot.empty(today());
+    }
+
+    /**
+     * Rebuilds the window from the database.
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        long today = today();
+        Bucket[] buckets = new Bucket[DAYS];
+        for (long day = today - DAYS + 1; day <= today; day++) {
+            buckets[slotOf(day)] = new Bucket(day, leaderboardRepository.findAllCompletedBetween(
+                    startOf(day), startOf(day + 1), PageRequest.ofSize(capacity)));
+        }
+        List<LeaderboardEntry> allTime = leaderboardRepository
+                .findAllByOrderByScoreDescIdDesc(PageRequest.ofSize(capacity));
+        snapshot = Snapshot.of(today, buckets, allTime, capacity);
+        log.info("rebuilt leaderboard window of day " + today);
+    }
+
+    /**
+     * Adds the entries of a completed game to the window.
+     *
+     * @param entries the persisted entries
+     */
+    public synchronized void add(Collection<LeaderboardEntry> entries) {
+        long today = today();
+        Snapshot current = roll(snapshot, today);
+        Bucket[] buckets = current.buckets().clone();
+        for (LeaderboardEntry entry : entries) {
+            long day = dayOf(entry.getCompletionDate());
+            if (day <= today - DAYS || day > today) {
+                continue;
+            }
+            int slot = slotOf(day);
+            List<LeaderboardEntry> bucket = buckets[slot].day() == day
+                    ? buckets[slot].entries() : List.of();
+            buckets[slot] = new Bucket(day, best(bucket, List.of(entry), capacity));
+        }
+        snapshot = Snapshot.of(today, buckets, best(current.allTime(), entries, capacity),
+                capacity);
+    }
+
+    /**
+     * Empties the buckets of the days that left the window.
+     */
+    @Scheduled(cron = "0 0 0 * * *", zone = "UTC")
+    public synchronized void expire() {
+        snapshot = roll(snapshot, today());
+    }
+
+    /**
+     * Gets the best entries of the week, in descending order of score.
+     *
+     * @return at most {@link #getCapacity()} entries
+     */
+    public List<LeaderboardEntry> getWeekly() {
+        return current().weekly();
+    }
+
+    /**
+     * Gets the best entries of all time, in descending order of score.
+     *
+     * @return at most {@link #getCapacity()} entries
+     */
+    public List<LeaderboardEntry> getAllTime() {
+        return current().allTime();
+    }
+
+    /**
+     * Gets the beginning of the first day of the week.
+     *
+     * @return the date the week starts at
+     */
+    public Date getWeekStart() {
+        return startOf(current().day() - DAYS + 1);
+    }
+
+    /**
+     * Gets the number of entries kept for each scoreboard.
+     *
+     * @return the number of entries
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current.day() != today()) {
+            // the scheduled expiration has not run yet
+            expire();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private Snapshot roll(Snapshot current, long today) {
+        if (current.day() == today) {
+            return current;
+        }
+        Bucket[] buckets = current.buckets().clone();
+        for (int slot = 0; slot < DAYS; slot++) {
+            if (buckets[slot].day() <= today - DAYS) {
+                buckets[slot] = Bucket.EMPTY;
+            }
+        }
+        return Snapshot.of(today, buckets, current.allTime(), capacity);
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private static int slotOf(long day) {
+        return (int) Math.floorMod(day, DAYS);
+    }
+
+    private static long dayOf(Date date) {
+        return LocalDate.ofInstant(date.toInstant(), ZoneOffset.UTC).toEpochDay();
+    }
+
+    private static Date startOf(long day) {
+        return Date.from(Instant.ofEpochSecond(LocalDate.ofEpochDay(day)
+                .toEpochSecond(LocalTime.MIDNIGHT, ZoneOffset.UTC)));
+    }
+
+    private static List<LeaderboardEntry> best(Collection<LeaderboardEntry> first,
+                                               Collection<LeaderboardEntry> second, int count) {
+        List<LeaderboardEntry> merged = new ArrayList<>(first.size() + second.size());
+        merged.addAll(first);
+        merged.addAll(second);
+        merged.sort(ORDER);
+        return List.copyOf(merged.subList(0, Math.min(count, merged.size())));
+    }
+
+    /**
+     * Best entries of the games completed in a day.
+     */
+    private record Bucket(long day, List<LeaderboardEntry> entries) {
+        static final Bucket EMPTY = new Bucket(Long.MIN_VALUE, List.of());
+    }
+
+    /**
+     * Immutable state of the window published to the readers.
+     */
+    private record Snapshot(long day, Bucket[] buckets, List<LeaderboardEntry> weekly,
+                            List<LeaderboardEntry> allTime) {
+        static Snapshot empty(long day) {
+            Bucket[] buckets = new Bucket[DAYS];
+            Arrays.fill(buckets, Bucket.EMPTY);
+            return new Snapshot(day, buckets, List.of(), List.of());
+        }
+
+        static Snapshot of(long day, Bucket[] buckets, List<LeaderboardEntry> allTime,
+                           int capacity) {
+            List<LeaderboardEntry> weekly = List.of();
+            for (Bucket bucket : buckets) {
+                weekly = best(weekly, bucket.entries(), capacity);
+            }
+            return new Snapshot(day, buckets, weekly, allTime);
+        }
+    }
+}
@@ -1,31 +1,177 @@
 package group2.monopoly.game.service;
 
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.LeaderboardEntry;
 import group2.monopoly.game.entity.Player;
-import group2.monopoly.game.repository.PlayerRepository;
+import group2.monopoly.game.payload.ScoreboardPageDTO;
+import group2.monopoly.game.repository.LeaderboardEntryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
 
+/**
+ * Service class maintaining and reading the scoreboards.
+ * <br><br>
+ * A {@link LeaderboardEntry} is written for each player when a game ends, and the scoreboards
+ * read the best entries through the indices of the entries, so a scoreboard costs the same
+ * however many games have been played.
+ * <br>
+ * Scoreboards are paginated by seeking after the score and id of the last entry of the previous
+ * page, so deep pages cost the same as the first one. First pages of at most the default size
+ * are served from the {@link LeaderboardWindowService} without querying the database.
+ */
 @Service
 public class ScoreboardService {
-    private final PlayerRepository playerRepository;
+    private final LeaderboardEntryRepository leaderboardRepository;
+
+    private final LeaderboardWindowService window;
+
+    private final int defaultSize;
+
+    private final int maxSize;
 
     @Autowired
-    public ScoreboardService(PlayerRepository playerRepository) {
-        this.playerRepository = playerRepository;
+    public ScoreboardService(LeaderboardEntryRepository leaderboardRepository,
+                             LeaderboardWindowService window,
+                             @Value("${monopoly.scoreboard.size}") int defaultSize,
+                             @Value("${monopoly.scoreboard.max-size}") int maxSize) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.window = window;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Writes the final scores of the players of a completed game.
+     * <br><br>
+     * Should be called once, in the transaction saving the completed game, after the scores of
+     * the players and the completion date of the game are set. The entries are added to the
+     * in-memory window once they are committed.
+     *
+     * @param game the completed game
+     */
+    public void record(Game game) {
+        List<LeaderboardEntry> entries = game.getPlayers().stream()
+                .map(player -> LeaderboardEntry
+                        .builder()
+                        .gameId(game.getId())
+                        .username(usernameOf(player))
+                        .score(player.getScore())
+                        .completionDate(game.getCompletionDate())
+                        .build())
+                .toList();
+        List<LeaderboardEntry> saved = leaderboardRepository.saveAll(entries);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            window.add(saved);
+                        }
+                    });
+        } else {
+            window.add(saved);
+        }
+    }
+
+    /**
+     * Gets a page of the best scores of all time.
+     *
+     * @param limit the maximum number of entries in the page, or null for the default size
+     * @param after the cursor of the previous page, or null for the first page
+     * @return the page of entries, in descending order of score
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ScoreboardPageDTO bestOfAllTimes(Integer limit, String after) {
+        int size = pageSize(limit);
+        Pageable page = PageRequest.ofSize(size + 1);
+        if (after == null && size < window.getCapacity()) {
+            return toPage(window.getAllTime(), size);
+        } else if (after == null) {
+            return toPage(leaderboardRepository.findAllByOrderByScoreDescIdDesc(page), size);
+        }
+        Cursor cursor = Cursor.parse(after);
+        return toPage(leaderboardRepository.findAllAfter(cursor.score(), cursor.id(), page), size);
     }
 
-    public List<Player> bestOfAllTimes() {
-        Instant inst = Instant.now();
-        return playerRepository.findAllByGameNotNull(Date.from(inst.minus(7, ChronoUnit.DAYS)),
-                Date.from(inst));
+    /**
+     * Gets a page of the best scores of the games completed in the current week.
+     *
+     * @param limit the maximum number of entries in the page, or null for the default size
+     * @param after the cursor of the previous page, or null for the first page
+     * @return the page of entries of the week, in descending order of score
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ScoreboardPageDTO bestOfLastWeek(Integer limit, String after) {
+        int size = pageSize(limit);
+        Pageable page = PageRequest.ofSize(size + 1);
+        Date start = window.getWeekStart();
+        if (after == null && size < window.getCapacity()) {
+            return toPage(window.getWeekly(), size);
+        } else if (after == null) {
+            return toPage(leaderboardRepository
+                    .findAllByCompletionDateGreaterThanEqualOrderByScoreDescIdDesc(start, page),
+                    size);
+        }
+        Cursor cursor = Cursor.parse(after);
+        return toPage(leaderboardRepository.findAllCompletedAfter(start, cursor.score(),
+                cursor.id(), page), size);
     }
 
-    public List<Player> bestOfLastWeek() {
-        return playerRepository.findAllByGameNotNull(new Date(0), new Date());
+    /**
+     * Clamps the requested page size between 1 and the maximum page size.
+     */
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(limit, maxSize));
+    }
+
+    /**
+     * Builds a page out of at most one more entry than the page size. The extra entry is only
+     * read to know whether there is a next page.
+     */
+    private static ScoreboardPageDTO toPage(List<LeaderboardEntry> entries, int size) {
+        if (entries.size() <= size) {
+            return new ScoreboardPageDTO(entries, null);
+        }
+        List<LeaderboardEntry> page = entries.subList(0, size);
+        LeaderboardEntry last = page.get(size - 1);
+        return new ScoreboardPageDTO(List.copyOf(page),
+                new Cursor(last.getScore(), last.getId()).toString());
+    }
+
+    private static String usernameOf(Player player) {
+        User user = player.getUser();
+        return user == null ? null : user.getUsername();
+    }
+
+    /**
+     * Position of an entry in the score ordering, formatted as "score:id".
+     */
+    private record Cursor(int score, long id) {
+        static Cursor parse(String cursor) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                return new Cursor(Integer.parseInt(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("malformed cursor " + cursor);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return score + ":" + id;
+        }
     }
 }
@@ -0,0 +1,137 @@
+package group2.monopoly.game.service.archive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameArchive;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.repository.GameArchiveRepository;
+import group2.monopoly.game.repository.GameRepository;
+import group2.monopoly.game.service.history.GameHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Service class moving completed games out of the tables of the live games.
+ * <br><br>
+ * Games completed more than 'monopoly.game.archive.age' ago are periodically moved into the
+ * 'game_archive' table, at most 'monopoly.game.archive.batch-size' games at a time. The final
+ * state of an archived game is kept as the compressed JSON representation the game is served
+ * with, and its players, events and snapshots are deleted. The scoreboards are not affected, as
+ * they are read from the leaderboard entries.
+ */
+@Slf4j
+@Service
+public class GameArchiveService {
+    private final GameRepository gameRepository;
+    private final GameArchiveRepository archiveRepository;
+    private final GameHistoryService historyService;
+    private final ObjectMapper objectMapper;
+
+    private final Duration age;
+    private final int batchSize;
+
+    @Autowired
+    public GameArchiveService(GameRepository gameRepository,
+                              GameArchiveRepository archiveRepository,
+                              GameHistoryService historyService, ObjectMapper objectMapper,
+                              @Value("${monopoly.game.archive.age}") Duration age,
+                              @Value("${monopoly.game.archive.batch-size}") int batchSize) {
+        this.gameRepository = gameRepository;
+        this.archiveRepository = archiveRepository;
+        this.historyService = historyService;
+        this.objectMapper = objectMapper;
+        this.age = age;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves a batch of the games completed before the configured age into the archive.
+     *
+     * @return the number of archived games
+     */
+    @Scheduled(fixedDelayString = "${monopoly.game.archive.interval}")
+    @Transactional
+    public int archive() {
+        Date before = Date.from(Instant.now().minus(age));
+        List<Long> gameIds = gameRepository.findIdsCompletedBefore(before,
+                PageRequest.ofSize(batchSize));
+        for (Game game : gameRepository.findAllById(gameIds)) {
+            archiveRepository.save(GameArchive
+                    .builder()
+                    .gameId(game.getId())
+                    .name(game.getName())
+                    .completionDate(game.getCompletionDate())
+                    .state(compress(objectMapper.valueToTree(game)))
+                    .build());
+            historyService.delete(game.getId());
+            gameRepository.delete(game);
+        }
+        if (!gameIds.isEmpty()) {
+            log.info("archived " + gameIds.size() + " completed games");
+        }
+        return gameIds.size();
+    }
+
+    /**
+     * Gets the final state of the archived game if the user was a player of the game.
+     *
+     * @param user   the user requesting the game
+     * @param gameId id of the game
+     * @return the JSON representation of the game, or empty if the game is not archived
+     * @throws GameManagementException if the user was not a player of the game
+     */
+    @Transactional(readOnly = true)
+    public Optional<JsonNode> getGame(User user, Long gameId) throws GameManagementException {
+        Optional<GameArchive> archive = archiveRepository.findById(gameId);
+        if (archive.isEmpty()) {
+            return Optional.empty();
+        }
+        JsonNode game = decompress(archive.get().getState());
+        for (JsonNode player : game.path("players")) {
+            JsonNode userId = player.path("user").path("id");
+            if (userId.isIntegralNumber() && userId.asLong() == user.getId()) {
+                return Optional.of(game);
+            }
+        }
+        throw new GameManagementException("user is not a player of this game");
+    }
+
+    private byte[] compress(JsonNode game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            objectMapper.writeValue(out, game);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private JsonNode decompress(byte[] state) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(state))) {
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
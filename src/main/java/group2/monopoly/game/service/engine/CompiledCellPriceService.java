@@ -0,0 +1,156 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import group2.monopoly.game.service.engine.core.CellPriceTable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implements {@link IGameCellPrice} interface with precompiled price tables.
+ * <br><br>
+ * The first time a game table layout is seen, the prices and rents of all of its cells are
+ * computed once with {@link GameCellPriceService} and compiled into a {@link CellPriceTable},
+ * which is kept with the interned {@link BoardLayout}. Tables keep their layouts, so every later
+ * call reads the compiled table from the layout of the table, and the price from an array.
+ */
+@Primary
+@Service
+public class CompiledCellPriceService implements IGameCellPrice {
+    private final GameCellPriceService formulaService;
+
+    @Autowired
+    public CompiledCellPriceService(GameCellPriceService formulaService) {
+        this.formulaService = formulaService;
+    }
+
+    /**
+     * Returns the compiled price table of the given game table.
+     *
+     * @param table the game table
+     * @return the interned price table of the game table's layout
+     */
+    public CellPriceTable compile(GameTableConfiguration table) {
+        return table.getLayout().getPrices(this::compile);
+    }
+
+    private CellPriceTable compile(BoardLayout layout) {
+        GameTableConfiguration table = layout.toTable();
+        int[] prices = new int[BoardLayout.TABLE_SIZE];
+        int[] rents = new int[BoardLayout.TABLE_SIZE];
+        int[] portRents = new int[BoardLayout.TABLE_SIZE];
+        for (int cell = 0; cell < BoardLayout.TABLE_SIZE; cell++) {
+            if (layout.isProperty(cell)) {
+                prices[cell] = formulaService.getPropertyPrice(table, cell);
+                rents[cell] = formulaService.getPropertyRent(table, cell);
+            } else if (layout.isPort(cell)) {
+                prices[cell] = formulaService.getPortPrice(table, cell);
+                portRents[cell] = formulaService.getPortRent(table, cell, 1);
+            }
+        }
+        return new CellPriceTable(layout, prices, rents, portRents, formulaService.getSalary(),
+                formulaService.getIncomeTax());
+    }
+
+    /**
+     * Returns the price of the property in the specified index.
+     *
+     * @param table      the game table
+     * @param tableIndex the index of the property cell on the table
+     * @return the price of the property
+     * @throws IllegalArgumentException if the cell is not a property
+     */
+    @Override
+    public Integer getPropertyPrice(GameTableConfiguration table, Integer tableIndex) {
+        CellPriceTable prices = compile(table);
+        if (isOnTable(tableIndex) && prices.getLayout().isProperty(tableIndex)) {
+            return prices.price(tableIndex);
+        }
+        throw new IllegalArgumentException("given cell is not a property");
+    }
+
+    /**
+     * Returns the price of the port in the specified index.
+     *
+     * @param table      the game table
+     * @param tableIndex the index of the port cell on the table
+     * @return the price of the port
+     * @throws IllegalArgumentException if the cell is not a port
+     */
+    @Override
+    public Integer getPortPrice(GameTableConfiguration table, Integer tableIndex) {
+        CellPriceTable prices = compile(table);
+        if (isOnTable(tableIndex) && prices.getLayout().isPort(tableIndex)) {
+            return prices.price(tableIndex);
+        }
+        throw new IllegalArgumentException("given cell is not a port");
+    }
+
+    @Override
+    public Integer getIncomeTax() {
+        return formulaService.getIncomeTax();
+    }
+
+    @Override
+    public Integer getSalary() {
+        return formulaService.getSalary();
+    }
+
+    /**
+     * Returns the price of a purchasable cell in the specified index.
+     *
+     * @param table      the game table
+     * @param tableIndex the index of the purchasable cell on the table
+     * @return the price of the cell
+     * @throws IllegalArgumentException if the cell is neither a port nor a property
+     */
+    @Override
+    public Integer getCellPrice(GameTableConfiguration table, Integer tableIndex) {
+        CellPriceTable prices = compile(table);
+        if (isOnTable(tableIndex) && prices.getLayout().isPurchasable(tableIndex)) {
+            return prices.price(tableIndex);
+        }
+        throw new IllegalArgumentException("cell is neither a port nor a property");
+    }
+
+    /**
+     * Returns the rent of a property.
+     *
+     * @param table      the game table
+     * @param tableIndex the index of the property
+     * @return the rent a player should pay to the owner after landing on this cell
+     * @throws IllegalArgumentException if the cell is not a property
+     */
+    @Override
+    public Integer getPropertyRent(GameTableConfiguration table, Integer tableIndex) {
+        CellPriceTable prices = compile(table);
+        if (isOnTable(tableIndex) && prices.getLayout().isProperty(tableIndex)) {
+            return prices.propertyRent(tableIndex);
+        }
+        throw new IllegalArgumentException("given cell is not a property");
+    }
+
+    /**
+     * Returns the rent of a port.
+     *
+     * @param table      the game table
+     * @param tableIndex the index of the port
+     * @param portCount  the number of ports owned by the owner of this port
+     * @return the rent a player should pay to the owner after landing on this cell
+     * @throws IllegalArgumentException if the cell is not a port
+     */
+    @Override
+    public Integer getPortRent(GameTableConfiguration table, Integer tableIndex,
+                               Integer portCount) {
+        CellPriceTable prices = compile(table);
+        if (isOnTable(tableIndex) && prices.getLayout().isPort(tableIndex)) {
+            return prices.portRent(tableIndex, portCount);
+        }
+        throw new IllegalArgumentException("given cell is not a port");
+    }
+
+    private static boolean isOnTable(Integer tableIndex) {
+        return tableIndex != null && tableIndex >= 0 && tableIndex < BoardLayout.TABLE_SIZE;
+    }
+}
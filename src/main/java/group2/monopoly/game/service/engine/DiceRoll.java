@@ -0,0 +1,60 @@
+package group2.monopoly.game.service.engine;
+
+import java.util.List;
+
+/**
+ * Utility methods for dice rolls packed into a primitive int.
+ * <br><br>
+ * A packed roll holds the first die in bits 4-7 and the second die in bits 0-3, which is also
+ * the layout of a roll in the binary dice files of {@link FileDiceGenerator}.
+ */
+public final class DiceRoll {
+    private DiceRoll() {
+    }
+
+    /**
+     * Packs the given dice.
+     *
+     * @param die1 the first die, between 1 and 6
+     * @param die2 the second die, between 1 and 6
+     * @return the packed roll
+     */
+    public static int of(int die1, int die2) {
+        return die1 << 4 | die2;
+    }
+
+    /**
+     * Derives a roll from 64 random bits, using the high half of the bits for the first die and
+     * the low half for the second die.
+     *
+     * @param bits uniformly distributed random bits
+     * @return the packed roll
+     */
+    public static int fromBits(long bits) {
+        int die1 = (int) (((bits >>> 32) * 6) >>> 32) + 1;
+        int die2 = (int) (((bits & 0xFFFFFFFFL) * 6) >>> 32) + 1;
+        return of(die1, die2);
+    }
+
+    public static int die1(int roll) {
+        return roll >>> 4 & 0xF;
+    }
+
+    public static int die2(int roll) {
+        return roll & 0xF;
+    }
+
+    public static boolean isDouble(int roll) {
+        return die1(roll) == die2(roll);
+    }
+
+    /**
+     * Unpacks the roll into a list of its dice.
+     *
+     * @param roll the packed roll
+     * @return the list of the dice
+     */
+    public static List<Integer> toList(int roll) {
+        return List.of(die1(roll), die2(roll));
+    }
+}
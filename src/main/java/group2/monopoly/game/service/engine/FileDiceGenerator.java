@@ -1,15 +1,21 @@
 package group2.monopoly.game.service.engine;
 
+import group2.monopoly.game.entity.Game;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Stream;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Reads sequence of dice rolls from a specified file.
@@ -17,16 +23,32 @@ import java.util.stream.Stream;
  * The path of the file should be specified in 'monopoly.dicefile' property.
  * The dice file should consist of lines with two integers between 1 and 6 in each, separated by
  * a blank space. The generator goes back to the first line after reading the last line.
+ * <br><br>
+ * The file is packed into a temporary binary file with a single byte per roll, holding the roll
+ * packed with {@link DiceRoll}, which is then memory-mapped. The packed rolls are never
+ * modified, so the generator can be shared by any number of threads.
+ * <br>
+ * Each game reads the sequence from its own dice cursor, stored with the game, so the rolls of a
+ * game only depend on the number of times the dice were rolled in that game.
+ * <br><br>
+ * This is the default generator, unless 'monopoly.game.dice.random' is true.
  *
  * @see FileDiceGenerator
  */
 @Slf4j
 @Service(value = "fileDiceGenerator")
+@ConditionalOnProperty(name = "monopoly.game.dice.random", havingValue = "false",
+        matchIfMissing = true)
 public class FileDiceGenerator implements IDiceGenerator {
 
-    private List<List<Integer>> diceSequence;
+    private final ByteBuffer rolls;
+
+    private final int rollCount;
 
-    private int index;
+    /**
+     * Cursor of the rolls that do not belong to a game.
+     */
+    private final AtomicLong cursor = new AtomicLong();
 
     /**
      * Reads a dice file to generate the dice throw list the generator will iterate over.
@@ -34,38 +56,84 @@ public class FileDiceGenerator implements IDiceGenerator {
      * @param filePath the path of the dice file
      */
     public FileDiceGenerator(@Value("${monopoly.dicefile}") String filePath) {
-        try (Stream<String> lines = Files.lines(Path.of(filePath))) {
-            diceSequence = lines
-                    .filter(s -> s.matches("^[1-6] [1-6]$"))
-                    .map(s -> s.split(" ", 2))
-                    .map(words -> List.of(Integer.valueOf(words[0]), Integer.valueOf(words[1])))
-                    .toList();
-            if (diceSequence.isEmpty()) {
+        try {
+            Path packed = Files.createTempFile("dice", ".bin");
+            packed.toFile().deleteOnExit();
+            int count = pack(Path.of(filePath), packed);
+            if (count == 0) {
                 log.warn("Dice file contains no valid sequence lines, defaulting to 1 - 1.");
-                diceSequence = List.of(List.of(1, 1));
+                Files.write(packed, new byte[]{pack(1, 1)});
+                count = 1;
             }
-            index = 0;
+            try (FileChannel channel = FileChannel.open(packed, StandardOpenOption.READ)) {
+                rolls = channel.map(FileChannel.MapMode.READ_ONLY, 0, count);
+            }
+            rollCount = count;
         } catch (IOException e) {
             log.error("Exception occurred while opening dice sequence file " + filePath);
             log.error("pwd " + System.getenv("PWD"));
             throw new RuntimeException(e);
-        } catch (NumberFormatException e) {
-            log.error("Exception occurred while parsing dice sequence file " + filePath);
-            throw e;
         }
     }
 
+    /**
+     * Packs the valid lines of the dice file into the given binary file, one byte per line.
+     *
+     * @param source the dice file
+     * @param target the binary file
+     * @return the number of packed rolls
+     * @throws IOException if either of the files can not be accessed
+     */
+    private static int pack(Path source, Path target) throws IOException {
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(source);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.matches("^[1-6] [1-6]$")) {
+                    out.write(pack(line.charAt(0) - '0', line.charAt(2) - '0'));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static byte pack(int die1, int die2) {
+        return (byte) DiceRoll.of(die1, die2);
+    }
+
+    /**
+     * Returns the packed roll at the given position of the sequence.
+     *
+     * @param position the position, wrapping around the end of the sequence
+     * @return the dice, packed into a byte
+     */
+    private int rollAt(long position) {
+        return rolls.get((int) Math.floorMod(position, (long) rollCount));
+    }
+
     /**
      * Returns the numbers specified in the line after the previous line.
      *
-     * @return rolled numbers
+     * @return the packed roll
+     */
+    @Override
+    public int roll() {
+        return rollAt(cursor.getAndIncrement());
+    }
+
+    /**
+     * Returns the numbers specified in the line at the dice cursor of the game, and advances the
+     * cursor.
+     *
+     * @param game the game the dice are rolled in
+     * @return the packed roll
      */
     @Override
-    public List<Integer> roll() {
-        List<Integer> dice = new ArrayList<>();
-        dice.add(diceSequence.get(index).get(0));
-        dice.add(diceSequence.get(index).get(1));
-        index = (index + 1) % (diceSequence.size());
-        return dice;
+    public int roll(Game game) {
+        long position = game.getDiceCursor();
+        game.setDiceCursor(position + 1);
+        return rollAt(position);
     }
 }
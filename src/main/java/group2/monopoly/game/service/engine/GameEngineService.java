@@ -1,129 +1,141 @@
 package group2.monopoly.game.service.engine;
 
 import group2.monopoly.game.entity.Game;
-import group2.monopoly.game.entity.GameTableConfiguration;
 import group2.monopoly.game.entity.Player;
 import group2.monopoly.game.exception.GameFaultyMoveException;
 import group2.monopoly.game.exception.GameOverException;
-import group2.monopoly.game.repository.GameRepository;
-import group2.monopoly.game.repository.PlayerRepository;
 import group2.monopoly.game.service.GameScoreService;
+import group2.monopoly.game.service.ai.IAiPlayerRunner;
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.engine.core.CellPrices;
+import group2.monopoly.game.service.engine.core.GameRules;
+import group2.monopoly.game.service.engine.core.TurnListener;
+import group2.monopoly.game.service.history.GameEventRecorder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Stream;
 
 /**
- * Implements {@link IGameCellPrice} interface.
+ * Implements {@link IGameEngine} interface by mapping the entities into a {@link BoardState} and
+ * applying the {@link GameRules} on it. A whole turn is played on a single state, which is loaded
+ * from the entities once at the beginning of the turn and stored back once at its end.
+ * <br><br>
+ * The engine only mutates the given entities and never saves them itself. The changes are also
+ * recorded as pending events of the game with a {@link GameEventRecorder}. Persisting the changes
+ * and the events is left to the {@link group2.monopoly.game.service.store.IGameStore} the game
+ * belongs to, which also records the final scores of a game to the scoreboard when the game
+ * ends.
  */
 @Service
 @Slf4j
 public class GameEngineService implements IGameEngine {
-    private final PlayerRepository playerRepository;
-    private final GameRepository gameRepository;
-
-    private final IGameCellPrice priceService;
+    private final CompiledCellPriceService priceService;
 
     private final IDiceGenerator diceService;
 
     private final GameScoreService scoreService;
 
-    private static final Integer STARTING_POINT_CELL = 0;
-    private static final Integer JAIL_CELL = 4;
-    private static final Integer GOTO_JAIL_CELL = 12;
-    private static final Integer JAIL_DURATION = 2;
-    private static final Integer TABLE_SIZE = 16;
-
     @Autowired
-    public GameEngineService(PlayerRepository playerRepository,
-                             GameRepository gameRepository,
-                             GameCellPriceService priceService,
-                             @Qualifier("fileDiceGenerator")
+    public GameEngineService(CompiledCellPriceService priceService,
                              IDiceGenerator diceService,
                              GameScoreService scoreService) {
-        this.playerRepository = playerRepository;
-        this.gameRepository = gameRepository;
         this.priceService = priceService;
         this.diceService = diceService;
         this.scoreService = scoreService;
     }
 
-    /**
-     * Executes the movement phase of the player's turn.
-     *
-     * @param player the player who is in the movement phase of their turn
-     * @throws GameOverException if the player goes bankrupt
-     */
-    public void moveStep(Player player) throws GameOverException {
-        if (player.getRemainingJailTime() > 0) {
-            log.info("player " + player.getId() + " in jail with remaining time " + player.getRemainingJailTime());
-            player.setRemainingJailTime(player.getRemainingJailTime() - 1);
-            playerRepository.save(player);
-            log.info("after this turn " + player.getRemainingJailTime() + " turns left.");
-            return;
-        }
+    @Override
+    public void playTurn(Player player, Player robot, boolean buy,
+                         IAiPlayerRunner robotRunner) throws GameFaultyMoveException,
+            GameOverException {
+        playTurn(player, robot, (money, price) -> buy, buy, robotRunner);
+    }
 
-        Game game = player.getGame();
-        List<Player> players = game.getPlayers();
-
-        List<Integer> roll = diceService.roll();
-        player.setLastDice(roll);
-
-        log.info("player " + player.getId() + " rolled " + roll);
-
-        // Handle double dice
-        if (roll.get(0).equals(roll.get(1))) {
-            player.setSuccessiveDoubles(player.getSuccessiveDoubles() + 1);
-            if (player.getSuccessiveDoubles().equals(3)) {
-                log.info("player " + player.getId() + " goes to jail for rolling three " +
-                         "consecutive doubles.");
-                handleGoToJail(player);
-                return;
-            }
-        } else {
-            player.setSuccessiveDoubles(0);
+    @Override
+    public void playTurn(Player player, Player robot, IAiPlayerRunner playerRunner,
+                         IAiPlayerRunner robotRunner) throws GameOverException {
+        try {
+            playTurn(player, robot, playerRunner, false, robotRunner);
+        } catch (GameFaultyMoveException e) {
+            throw new IllegalStateException(e);
         }
+    }
 
-        Integer advance = roll.stream().reduce(0, Integer::sum);
-        Integer oldLocation = player.getLocation();
-        player.setLocation((oldLocation + advance) % TABLE_SIZE);
+    private void playTurn(Player player, Player robot, IAiPlayerRunner playerRunner,
+                          boolean mustBuy, IAiPlayerRunner robotRunner) throws
+            GameFaultyMoveException, GameOverException {
+        Game game = player.getGame();
+        BoardState state = BoardState.load(game);
+        CellPrices prices = pricesOf(game);
+        int slot = BoardState.slotOf(game, player);
+        int robotSlot = BoardState.slotOf(game, robot);
 
-        log.info("player " + player.getId() + " moved: " + oldLocation + " -->" + player.getLocation());
+        boolean canBuy = GameRules.canBuy(state, slot, state.getLocation(slot), prices);
+        if (mustBuy && !canBuy) {
+            // nothing has changed, the turn is not played
+            throw new GameFaultyMoveException("can not buy cell");
+        }
+        game.beginTurn();
+        TurnListener listener = listenerFor(game);
+        purchase(state, slot, prices, playerRunner, listener);
 
-        Stream<Integer> ownedPurchasables = getPurchases(players);
-        Set<Integer> playerOwnedPurchasables = player.getOwnedPurchasables();
+        if (move(game, state, robotSlot, prices, listener) == GameRules.BANKRUPT) {
+            state.store(game);
+            defaultCheck(robot, game);
+        }
+        purchase(state, robotSlot, prices, robotRunner, listener);
 
-        GameTableConfiguration table = game.getGameTableConfiguration();
-        List<Integer> portIndices = table.getPortIndices();
-        Integer incomeTaxIndex = table.getIncomeTaxIndex();
+        int status = move(game, state, slot, prices, listener);
+        state.store(game);
+        if (status == GameRules.BANKRUPT) {
+            defaultCheck(player, game);
+        }
+    }
 
-        Integer location = player.getLocation();
+    /**
+     * Serves the jail time of the player in the given slot, or rolls the dice and moves them.
+     */
+    private int move(Game game, BoardState state, int slot, CellPrices prices,
+                     TurnListener listener) {
+        if (GameRules.serveJailTime(state, slot, listener)) {
+            return GameRules.CONTINUE;
+        }
+        int roll = diceService.roll(game);
+        return GameRules.move(state, slot, DiceRoll.die1(roll), DiceRoll.die2(roll), prices,
+                listener);
+    }
 
-        if (oldLocation > player.getLocation()) {
-            // only happens if the player went past the starting point
-            log.info("player " + player.getId() + " went past the starting point");
-            payPlayer(player, priceService.getSalary());
-        } else if (location.equals(GOTO_JAIL_CELL)) {
-            log.info("player " + player.getId() + " goes to jail for landing on 'Go to Jail' cell" +
-                     ".");
-            handleGoToJail(player);
+    /**
+     * Buys the cell the player in the given slot is on if they can buy it and the runner decides
+     * to.
+     */
+    private static void purchase(BoardState state, int slot, CellPrices prices,
+                                 IAiPlayerRunner runner, TurnListener listener) {
+        int location = state.getLocation(slot);
+        if (GameRules.canBuy(state, slot, location, prices)
+            && runner.decideToBuy(state.getMoney(slot), prices.price(location))) {
+            GameRules.purchase(state, slot, location, prices, listener);
         }
-        if (location.equals(incomeTaxIndex)) {
-            handleIncomeTaxCell(player, game);
-        } else if (ownedPurchasables.anyMatch(p -> p.equals(location))) {
-            // Purchased cell
-            if (portIndices.contains(location)) {
-                handlePortCell(player, game, portIndices, playerOwnedPurchasables);
-            } else {
-                handlePropertyCell(player, game, playerOwnedPurchasables);
-            }
+    }
+
+    /**
+     * Executes the movement phase of the player's turn.
+     *
+     * @param player the player who is in the movement phase of their turn
+     * @throws GameOverException if the player goes bankrupt
+     */
+    public void moveStep(Player player) throws GameOverException {
+        Game game = player.getGame();
+        BoardState state = BoardState.load(game);
+        int status = move(game, state, BoardState.slotOf(game, player), pricesOf(game),
+                listenerFor(game));
+        state.store(game);
+        if (status == GameRules.BANKRUPT) {
+            defaultCheck(player, game);
         }
-        playerRepository.save(player);
     }
 
     /**
@@ -135,19 +147,15 @@ public class GameEngineService implements IGameEngine {
     public void purchaseStep(Player player) throws
             GameFaultyMoveException {
         Game game = player.getGame();
+        BoardState state = BoardState.load(game);
+        int slot = BoardState.slotOf(game, player);
+        CellPrices prices = pricesOf(game);
 
-        Integer location = player.getLocation();
-        if (canBuy(player, game, location)) {
-            player.getOwnedPurchasables().add(location);
-            log.info("player " + player.getId() + " buys " + location);
-            try {
-                chargePlayer(player, game,
-                        priceService.getCellPrice(game.getGameTableConfiguration(),
-                                location));
-            } catch (GameOverException e) {
-                log.error("The player should not go bankrupt by trying to purchase a cell!");
-                e.printStackTrace();
-            }
+        int location = state.getLocation(slot);
+        if (GameRules.canBuy(state, slot, location, prices)) {
+            GameRules.purchase(state, slot, location, prices,
+                    listenerFor(game));
+            state.store(game);
         } else {
             throw new GameFaultyMoveException("can not buy cell");
         }
@@ -156,8 +164,9 @@ public class GameEngineService implements IGameEngine {
     /**
      * Checks the amount of money the player has.
      * <br><br>
-     * If the player is in negative balance, the game ends. This method should be called by
-     * methods that decrease the amount of money a player has.
+     * If the player is in negative balance, the game ends. The score of each player is computed
+     * from their own money and purchasables. This method should
+     * be called by methods that decrease the amount of money a player has.
      *
      * @param player the player to be checked
      * @param game   the game
@@ -166,40 +175,34 @@ public class GameEngineService implements IGameEngine {
     private void defaultCheck(Player player, Game game) throws GameOverException {
         if (player.getMoney() < 0) {
             game.setCompletionDate(new Date());
-            gameRepository.save(game);
-            game.getPlayers().forEach(p -> {
-                p.setScore(
-                        scoreService.computeScore(
-                                game.getGameTableConfiguration(),
-                                p.getOwnedPurchasables().stream().toList(),
-                                player.getMoney()));
-                playerRepository.save(p);
-            });
+            game.getPlayers().forEach(p -> p.setScore(
+                    scoreService.computeScore(
+                            game.getGameTableConfiguration(),
+                            p.getOwnedPurchasables().stream().toList(),
+                            p.getMoney())));
             throw new GameOverException(player, game);
         }
     }
 
     /**
-     * Returns the union of purchases of the given list of players.
+     * Returns the prices of the given game's table as {@link CellPrices}.
      *
-     * @param players the list of players
-     * @return the flattened list of indices of the purchases of the players
+     * @param game the game
+     * @return the prices of the game table
      */
-    private Stream<Integer> getPurchases(List<Player> players) {
-        return players.stream().flatMap(p -> p.getOwnedPurchasables().stream());
+    private CellPrices pricesOf(Game game) {
+        return priceService.compile(game.getGameTableConfiguration());
     }
 
     /**
-     * Utility method that does the exact opposite of {@link #chargePlayer(Player, Game, Integer)}.
+     * Returns the listener recording and logging the outcome of the game rules applied to the
+     * given game.
      *
-     * @param player the player
-     * @param amount the amount to pay to the player
+     * @param game the game
+     * @return the listener
      */
-    private void payPlayer(Player player, Integer amount) {
-        Integer oldMoney = player.getMoney();
-        player.setMoney(oldMoney + amount);
-        log.info("paid player " + player.getId() + " " + amount + " " + oldMoney + " -> " + player.getMoney());
-        playerRepository.save(player);
+    private TurnListener listenerFor(Game game) {
+        return new GameEventRecorder(game, new LoggingTurnListener(game.getPlayers()));
     }
 
     /**
@@ -212,83 +215,55 @@ public class GameEngineService implements IGameEngine {
      */
     @Override
     public void chargePlayer(Player player, Game game, Integer cost) throws GameOverException {
-        Integer oldMoney = player.getMoney();
-        player.setMoney(oldMoney - cost);
-        playerRepository.save(player);
-        log.info("charged player " + player.getId() + " " + cost + " " + oldMoney + " -> " + player.getMoney());
-        defaultCheck(player, game);
+        BoardState state = BoardState.load(game);
+        int status = GameRules.charge(state, BoardState.slotOf(game, player), cost,
+                listenerFor(game));
+        state.store(game);
+        if (status == GameRules.BANKRUPT) {
+            defaultCheck(player, game);
+        }
     }
 
     /**
      * Charges the player with the port rent if it does not belong to the player.
      *
-     * @param player                  the player that landed on a purchased port
-     * @param game                    the game
-     * @param playerOwnedPurchasables the player's owned purchasables
+     * @param player the player that landed on a purchased port
+     * @param game   the game
      * @throws GameOverException if the player goes bankrupt
      */
     @Override
-    public void handlePortCell(Player player,
-                               Game game,
-                               List<Integer> portIndices,
-                               Set<Integer> playerOwnedPurchasables) throws GameOverException {
-        Integer location = player.getLocation();
-        List<Player> players = game.getPlayers();
-        if (!playerOwnedPurchasables.contains(location)) {
-            // Not owner
-            for (Player p : players) {
-                if (p.getOwnedPurchasables().contains(location)) {
-                    Integer count = 0;
-                    // owner
-                    for (Integer i : p.getOwnedPurchasables()) {
-                        if (portIndices.contains(i)) {
-                            count++;
-                        }
-                    }
-                    Integer portRent = priceService.getPortRent(game.getGameTableConfiguration(),
-                            player.getLocation()
-                            , count);
-                    log.info("player " + player.getId() + " landed on player " + p.getId() + "'s " +
-                             "port");
-                    chargePlayer(player, game, portRent);
-                    payPlayer(p, portRent);
-                    playerRepository.save(p);
-                    break;
-                }
-            }
-        }
-        log.info("port with index " + player.getLocation() + " is owned by the player themself");
+    public void handlePortCell(Player player, Game game) throws GameOverException {
+        settleRent(player, game);
     }
 
     /**
      * Charges the player with the property rent if it does not belong to the player.
      *
-     * @param player                  the player that landed on a purchased property
-     * @param game                    the game
-     * @param playerOwnedPurchasables the player's owned purchasables
+     * @param player the player that landed on a purchased property
+     * @param game   the game
      * @throws GameOverException if the player goes bankrupt
      */
     @Override
-    public void handlePropertyCell(Player player,
-                                   Game game,
-                                   Set<Integer> playerOwnedPurchasables) throws GameOverException {
-        Integer location = player.getLocation();
-        if (!playerOwnedPurchasables.contains(location)) {
-            // Property owned by someone else
-            Integer propertyRent = priceService.getPropertyRent(game.getGameTableConfiguration(),
-                    location);
-            for (Player p : game.getPlayers()) {
-                if (p.getOwnedPurchasables().contains(location)) {
-                    log.info("player " + player.getId() + " landed on player " + p.getId() + "'s " +
-                             "property");
-                    chargePlayer(player, game, propertyRent);
-                    payPlayer(p, propertyRent);
-                    break;
-                }
-            }
-        } else {
-            log.info("property with index " + player.getLocation() + " is owned by the player " +
-                     "themself");
+    public void handlePropertyCell(Player player, Game game) throws GameOverException {
+        settleRent(player, game);
+    }
+
+    /**
+     * Charges the player with the rent of the cell they are on and pays it to the owner, unless
+     * the cell belongs to the player themself.
+     *
+     * @param player the player that landed on a purchased cell
+     * @param game   the game
+     * @throws GameOverException if the player goes bankrupt
+     */
+    private void settleRent(Player player, Game game) throws GameOverException {
+        BoardState state = BoardState.load(game);
+        int slot = BoardState.slotOf(game, player);
+        int status = GameRules.payRent(state, slot, state.getLocation(slot), pricesOf(game),
+                listenerFor(game));
+        state.store(game);
+        if (status == GameRules.BANKRUPT) {
+            defaultCheck(player, game);
         }
     }
 
@@ -312,10 +287,10 @@ public class GameEngineService implements IGameEngine {
      */
     @Override
     public void handleGoToJail(Player player) {
-        player.setLocation(JAIL_CELL);
-        player.setRemainingJailTime(JAIL_DURATION);
-        player.setSuccessiveDoubles(0);
-        playerRepository.save(player);
+        Game game = player.getGame();
+        BoardState state = BoardState.load(game);
+        GameRules.goToJail(state, BoardState.slotOf(game, player), false, listenerFor(game));
+        state.store(game);
     }
 
     /**
@@ -327,14 +302,9 @@ public class GameEngineService implements IGameEngine {
      * @return true if the player can buy the current cell
      */
     public boolean canBuy(Player player, Game game, Integer location) {
-        Integer incomeTaxIndex = game.getGameTableConfiguration().getIncomeTaxIndex();
-        if (Set.of(STARTING_POINT_CELL, GOTO_JAIL_CELL, JAIL_CELL, incomeTaxIndex).contains(location)) {
-            return false;
-        } else if (getPurchases(game.getPlayers()).toList().contains(location)) {
-            return false;
-        }
-        return player.getMoney() >= priceService.getCellPrice(game.getGameTableConfiguration(),
-                location);
+        BoardState state = BoardState.load(game);
+        return GameRules.canBuy(state, BoardState.slotOf(game, player), location,
+                pricesOf(game));
     }
 
     /**
@@ -349,4 +319,77 @@ public class GameEngineService implements IGameEngine {
         log.info("quite something happening to player " + player.getId());
         chargePlayer(player, game, 10000);
     }
+
+    /**
+     * {@link TurnListener} that logs the outcome of the game rules.
+     */
+    private static class LoggingTurnListener implements TurnListener {
+        private final List<Player> players;
+
+        LoggingTurnListener(List<Player> players) {
+            this.players = players;
+        }
+
+        private Long id(int slot) {
+            return players.get(slot).getId();
+        }
+
+        @Override
+        public void onJailTimeServed(int slot, int remainingJailTime) {
+            log.info("player " + id(slot) + " in jail, after this turn " + remainingJailTime +
+                     " turns left.");
+        }
+
+        @Override
+        public void onRoll(int slot, int die1, int die2) {
+            log.info("player " + id(slot) + " rolled [" + die1 + ", " + die2 + "]");
+        }
+
+        @Override
+        public void onMove(int slot, int from, int to) {
+            log.info("player " + id(slot) + " moved: " + from + " -->" + to);
+        }
+
+        @Override
+        public void onSalary(int slot, int amount) {
+            log.info("player " + id(slot) + " went past the starting point, paid " + amount);
+        }
+
+        @Override
+        public void onIncomeTax(int slot, int amount) {
+            log.info("player " + id(slot) + " landed on property tax cell");
+        }
+
+        @Override
+        public void onRent(int payerSlot, int ownerSlot, int cell, int amount) {
+            log.info("player " + id(payerSlot) + " landed on player " + id(ownerSlot) + "'s " +
+                     "cell " + cell + ", rent " + amount);
+        }
+
+        @Override
+        public void onOwnCell(int slot, int cell) {
+            log.info("cell with index " + cell + " is owned by the player themself");
+        }
+
+        @Override
+        public void onPurchase(int slot, int cell, int price) {
+            log.info("player " + id(slot) + " buys " + cell + " for " + price);
+        }
+
+        @Override
+        public void onGoToJail(int slot, boolean threeDoubles) {
+            log.info("player " + id(slot) + " goes to jail for " + (threeDoubles ?
+                    "rolling three consecutive doubles." : "landing on 'Go to Jail' cell."));
+        }
+
+        @Override
+        public void onCharge(int slot, int amount) {
+            log.info("charged player " + id(slot) + " " + amount);
+        }
+
+        @Override
+        public void onBankrupt(int slot) {
+            log.info("player " + id(slot) + " went bankrupt");
+        }
+    }
 }
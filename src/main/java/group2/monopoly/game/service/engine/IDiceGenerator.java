@@ -1,19 +1,35 @@
 package group2.monopoly.game.service.engine;
 
-import java.util.List;
+import group2.monopoly.game.entity.Game;
 
 /**
  * Interface for generating dice rolls.
  * <br>
- * Each rolled die should have a value between 1 and 6 (both inclusive).
+ * Each rolled die should have a value between 1 and 6 (both inclusive). Rolls are returned packed
+ * into a primitive int, see {@link DiceRoll}.
  *
  * @see #roll()
+ * @see #roll(Game)
  */
 public interface IDiceGenerator {
     /**
      * Rolls dice and returns the result.
      *
-     * @return the list of rolled numbers
+     * @return the packed roll
      */
-    List<Integer> roll();
+    int roll();
+
+    /**
+     * Rolls dice for the given game and returns the result.
+     * <br><br>
+     * Generators producing a fixed sequence of rolls should give each game its own position in
+     * the sequence, so that the rolls of a game do not depend on the other games. By default,
+     * the game is ignored.
+     *
+     * @param game the game the dice are rolled in
+     * @return the packed roll
+     */
+    default int roll(Game game) {
+        return roll();
+    }
 }
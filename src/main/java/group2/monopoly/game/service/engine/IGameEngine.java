@@ -4,9 +4,7 @@ import group2.monopoly.game.entity.Game;
 import group2.monopoly.game.entity.Player;
 import group2.monopoly.game.exception.GameFaultyMoveException;
 import group2.monopoly.game.exception.GameOverException;
-
-import java.util.List;
-import java.util.Set;
+import group2.monopoly.game.service.ai.IAiPlayerRunner;
 
 /**
  * Interface exposing the in-game actions.
@@ -18,8 +16,41 @@ import java.util.Set;
  * <br>
  * In purchase phase, the player can either skip their phase or try to purchase the cell they
  * landed on. After this phase, their turn concludes.
+ * <br>
+ * The whole turns load the state of the game once and store it once. The single steps and cell
+ * handlers each load and store it again, so they should not be chained to play a turn.
  */
 public interface IGameEngine {
+    /**
+     * Plays a whole turn of the game: the purchase phase of the player's turn, a whole turn of
+     * the AI player, and the movement phase of the player's turn. The game is advanced to its
+     * next turn before any of them.
+     *
+     * @param player      the player who is in the purchase phase of their turn
+     * @param robot       the AI player
+     * @param buy         whether the player buys the cell they are on
+     * @param robotRunner decides the purchase of the AI player
+     * @throws GameFaultyMoveException if the player wants to buy a cell they can't purchase, in
+     *                                 which case the turn is not played
+     * @throws GameOverException       if a player goes bankrupt
+     */
+    void playTurn(Player player, Player robot, boolean buy, IAiPlayerRunner robotRunner) throws
+            GameFaultyMoveException, GameOverException;
+
+    /**
+     * Plays a whole turn of the game like {@link #playTurn(Player, Player, boolean,
+     * IAiPlayerRunner)}, deciding the purchase of the player with the given runner as well. The
+     * runners are only asked about the cells the players can purchase.
+     *
+     * @param player       the player who is in the purchase phase of their turn
+     * @param robot        the AI player
+     * @param playerRunner decides the purchase of the player
+     * @param robotRunner  decides the purchase of the AI player
+     * @throws GameOverException if a player goes bankrupt
+     */
+    void playTurn(Player player, Player robot, IAiPlayerRunner playerRunner,
+                  IAiPlayerRunner robotRunner) throws GameOverException;
+
     /**
      * Executes the movement step of the player's turn.
      *
@@ -51,25 +82,18 @@ public interface IGameEngine {
      *
      * @param player the player that landed on a purchased port
      * @param game the game
-     * @param playerOwnedPurchasables the player's owned purchasables
      * @throws GameOverException if the player goes bankrupt
      */
-    void handlePortCell(Player player,
-                        Game game,
-                        List<Integer> portIndices,
-                        Set<Integer> playerOwnedPurchasables) throws GameOverException;
+    void handlePortCell(Player player, Game game) throws GameOverException;
 
     /**
      * Charges the player with the property rent if it does not belong to the player.
      *
      * @param player the player that landed on a purchased property
      * @param game the game
-     * @param playerOwnedPurchasables the player's owned purchasables
      * @throws GameOverException if the player goes bankrupt
      */
-    void handlePropertyCell(Player player,
-                            Game game,
-                            Set<Integer> playerOwnedPurchasables) throws GameOverException;
+    void handlePropertyCell(Player player, Game game) throws GameOverException;
 
     /**
      * Charges user for landing on the income tax cell
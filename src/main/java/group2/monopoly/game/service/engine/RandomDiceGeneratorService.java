@@ -1,26 +1,63 @@
 package group2.monopoly.game.service.engine;
 
+import group2.monopoly.game.entity.Game;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service for generating pseudo-random dice rolls.
+ * <br><br>
+ * The rolls of a game form a SplitMix64 stream seeded with the dice seed of the game, which is
+ * the same stream a {@link java.util.SplittableRandom} created with the seed produces. The n-th
+ * roll is computed directly from the seed and the dice cursor of the game, so no generator state
+ * is kept or shared, and the rolls of a game can be replayed from its seed.
+ * <br><br>
+ * Used instead of {@link FileDiceGenerator} if 'monopoly.game.dice.random' is true.
  */
 @Service(value = "randomDiceGenerator")
+@ConditionalOnProperty(name = "monopoly.game.dice.random", havingValue = "true")
 public class RandomDiceGeneratorService implements IDiceGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
 
     /**
      * Rolls two numbers between 1 and 6.
      *
-     * @return random dices
+     * @return the packed roll
      */
     @Override
-    public List<Integer> roll() {
-        Random random = new Random();
-        List<Integer> set = new ArrayList<>();
-        set.add(random.nextInt(1, 7));
-        set.add(random.nextInt(1, 7));
-        return set;
+    public int roll() {
+        return DiceRoll.fromBits(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Rolls the next dice of the game's stream, and advances the dice cursor of the game.
+     *
+     * @param game the game the dice are rolled in
+     * @return the packed roll
+     */
+    @Override
+    public int roll(Game game) {
+        long position = game.getDiceCursor();
+        game.setDiceCursor(position + 1);
+        return rollAt(game.getDiceSeed(), position);
+    }
+
+    /**
+     * Returns the roll at the given position of the stream with the given seed.
+     *
+     * @param seed     the seed of the stream
+     * @param position the position of the roll, starting from zero
+     * @return the packed roll
+     */
+    public static int rollAt(long seed, long position) {
+        return DiceRoll.fromBits(mix64(seed + (position + 1) * GOLDEN_GAMMA));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 }
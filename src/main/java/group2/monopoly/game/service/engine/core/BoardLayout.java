@@ -0,0 +1,268 @@
+package group2.monopoly.game.service.engine.core;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Immutable, precomputed description of a game table.
+ * <br><br>
+ * Each of the 16 cells is assigned a cell type in a byte array, and the property and port cells
+ * are additionally kept as 16-bit masks so that ownership checks can be done with bit operations.
+ * <br>
+ * Layouts are interned by their canonical encoding (see {@link #encode(GameTableConfiguration)}),
+ * hence two games played on the same table share the same {@link BoardLayout} instance.
+ *
+ * @see BoardState
+ * @see GameRules
+ */
+public final class BoardLayout {
+    public static final int TABLE_SIZE = 16;
+
+    public static final int STARTING_POINT_CELL = 0;
+    public static final int JAIL_CELL = 4;
+    public static final int GOTO_JAIL_CELL = 12;
+
+    public static final byte EMPTY = 0;
+    public static final byte STARTING_POINT = 1;
+    public static final byte JAIL = 2;
+    public static final byte GOTO_JAIL = 3;
+    public static final byte INCOME_TAX = 4;
+    public static final byte PROPERTY = 5;
+    public static final byte PORT = 6;
+
+    private static final int PORT_NIBBLE = 14;
+    private static final int INCOME_TAX_NIBBLE = 15;
+    private static final int MAX_PROPERTY_RANK = 13;
+
+    private static final ConcurrentMap<Long, BoardLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final long encoding;
+    private final byte[] cellTypes = new byte[TABLE_SIZE];
+    private final byte[] propertyRanks = new byte[TABLE_SIZE];
+    private final int propertyMask;
+    private final int portMask;
+    private final int incomeTaxIndex;
+    private volatile GameTableConfiguration table;
+    private volatile CellPriceTable prices;
+
+    private BoardLayout(long encoding) {
+        this.encoding = encoding;
+        int properties = 0;
+        int ports = 0;
+        int incomeTax = -1;
+        for (int cell = 0; cell < TABLE_SIZE; cell++) {
+            int nibble = (int) (encoding >>> (cell * 4)) & 0xF;
+            byte type;
+            if (cell == STARTING_POINT_CELL) {
+                type = STARTING_POINT;
+            } else if (cell == JAIL_CELL) {
+                type = JAIL;
+            } else if (cell == GOTO_JAIL_CELL) {
+                type = GOTO_JAIL;
+            } else if (nibble == INCOME_TAX_NIBBLE) {
+                type = INCOME_TAX;
+                incomeTax = cell;
+            } else if (nibble == PORT_NIBBLE) {
+                type = PORT;
+                ports |= bit(cell);
+            } else if (nibble > 0) {
+                type = PROPERTY;
+                properties |= bit(cell);
+                propertyRanks[cell] = (byte) (nibble - 1);
+            } else {
+                type = EMPTY;
+            }
+            cellTypes[cell] = type;
+        }
+        this.propertyMask = properties;
+        this.portMask = ports;
+        this.incomeTaxIndex = incomeTax;
+    }
+
+    /**
+     * Returns the interned layout of the given game table, which the table keeps once it is
+     * looked up.
+     *
+     * @param table the game table
+     * @return the shared layout instance describing the table
+     */
+    public static BoardLayout of(GameTableConfiguration table) {
+        return table.getLayout();
+    }
+
+    /**
+     * Returns the interned layout with the given canonical encoding.
+     *
+     * @param encoding the canonical encoding of the layout
+     * @return the shared layout instance
+     */
+    public static BoardLayout of(long encoding) {
+        BoardLayout layout = LAYOUTS.get(encoding);
+        if (layout == null) {
+            layout = LAYOUTS.computeIfAbsent(encoding, BoardLayout::new);
+        }
+        return layout;
+    }
+
+    /**
+     * Computes the canonical encoding of a game table.
+     * <br><br>
+     * The encoding packs one nibble per cell: 0 for cells without a purchasable or a tax,
+     * (PROPERTY INDEX + 1) for property cells, 14 for port cells, and 15 for the income tax cell.
+     * Since the price of a property depends on its index in the property list, the order of
+     * the properties is preserved, while the order of the ports is not.
+     *
+     * @param table the game table
+     * @return the canonical encoding of the table
+     * @throws IllegalArgumentException if the table does not fit on a 16-cell board
+     */
+    public static long encode(GameTableConfiguration table) {
+        long encoding = 0;
+        List<Integer> propertyIndices = table.getPropertyIndices();
+        if (propertyIndices.size() > MAX_PROPERTY_RANK) {
+            throw new IllegalArgumentException("too many properties on the table");
+        }
+        for (int i = 0; i < propertyIndices.size(); i++) {
+            encoding = withNibble(encoding, propertyIndices.get(i), i + 1);
+        }
+        List<Integer> portIndices = table.getPortIndices();
+        for (int i = 0; i < portIndices.size(); i++) {
+            encoding = withNibble(encoding, portIndices.get(i), PORT_NIBBLE);
+        }
+        Integer incomeTax = table.getIncomeTaxIndex();
+        if (incomeTax != null) {
+            encoding = withNibble(encoding, incomeTax, INCOME_TAX_NIBBLE);
+        }
+        return encoding;
+    }
+
+    private static long withNibble(long encoding, int cell, int nibble) {
+        if (cell < 0 || cell >= TABLE_SIZE) {
+            throw new IllegalArgumentException("cell index out of table: " + cell);
+        }
+        return encoding | ((long) nibble << (cell * 4));
+    }
+
+    /**
+     * Returns the mask with only the bit of the given cell set.
+     *
+     * @param cell the index of the cell
+     * @return the single-bit mask of the cell
+     */
+    public static int bit(int cell) {
+        return 1 << cell;
+    }
+
+    public long getEncoding() {
+        return encoding;
+    }
+
+    public byte cellType(int cell) {
+        return cellTypes[cell];
+    }
+
+    public boolean isProperty(int cell) {
+        return (propertyMask & bit(cell)) != 0;
+    }
+
+    public boolean isPort(int cell) {
+        return (portMask & bit(cell)) != 0;
+    }
+
+    public boolean isPurchasable(int cell) {
+        return (getPurchasableMask() & bit(cell)) != 0;
+    }
+
+    /**
+     * Returns the index of the given property cell in the game table's property list.
+     *
+     * @param cell the index of a property cell
+     * @return the rank of the property
+     */
+    public int propertyRank(int cell) {
+        return propertyRanks[cell];
+    }
+
+    public int getPropertyMask() {
+        return propertyMask;
+    }
+
+    public int getPortMask() {
+        return portMask;
+    }
+
+    public int getPurchasableMask() {
+        return propertyMask | portMask;
+    }
+
+    /**
+     * Returns the index of the income tax cell, or -1 if the table has none.
+     *
+     * @return the index of the income tax cell
+     */
+    public int getIncomeTaxIndex() {
+        return incomeTaxIndex;
+    }
+
+    /**
+     * Returns the game table this layout is the encoding of.
+     * <br><br>
+     * The table is decoded once and shared by all callers. Properties are listed in the order of
+     * their indices in the original property list, and ports in ascending order.
+     *
+     * @return the shared, immutable game table
+     */
+    public GameTableConfiguration toTable() {
+        GameTableConfiguration decoded = table;
+        if (decoded == null) {
+            decoded = decode();
+            table = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns the price table of this layout, compiling it with the given compiler the first
+     * time. Threads compiling the table at the same time may each call the compiler, so it
+     * should always compile the same table for the same layout.
+     *
+     * @param compiler compiles the price table of a layout
+     * @return the shared price table
+     */
+    public CellPriceTable getPrices(Function<BoardLayout, CellPriceTable> compiler) {
+        CellPriceTable compiled = prices;
+        if (compiled == null) {
+            compiled = compiler.apply(this);
+            prices = compiled;
+        }
+        return compiled;
+    }
+
+    private GameTableConfiguration decode() {
+        Integer[] propertiesByRank = new Integer[MAX_PROPERTY_RANK];
+        List<Integer> ports = new ArrayList<>();
+        Integer incomeTax = null;
+        for (int cell = 0; cell < TABLE_SIZE; cell++) {
+            int nibble = (int) (encoding >>> (cell * 4)) & 0xF;
+            if (nibble == INCOME_TAX_NIBBLE) {
+                incomeTax = cell;
+            } else if (nibble == PORT_NIBBLE) {
+                ports.add(cell);
+            } else if (nibble > 0) {
+                propertiesByRank[nibble - 1] = cell;
+            }
+        }
+        List<Integer> properties = new ArrayList<>();
+        for (Integer cell : propertiesByRank) {
+            if (cell != null) {
+                properties.add(cell);
+            }
+        }
+        return new GameTableConfiguration(incomeTax, properties, ports);
+    }
+}
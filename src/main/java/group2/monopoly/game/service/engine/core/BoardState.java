@@ -0,0 +1,298 @@
+package group2.monopoly.game.service.engine.core;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.Player;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Primitive, mutable state of a game that {@link GameRules} operate on.
+ * <br><br>
+ * Each player of the game is assigned a slot, which is their index in {@link Game#getPlayers()}.
+ * The purchasables owned by a player are kept as a 16-bit mask, where the bit of a cell is set
+ * if and only if the player owns the cell.
+ * <br>
+ * The JPA entities are mapped into this state with {@link #load(Game)} at the beginning of a
+ * turn, and mapped back with {@link #store(Game)} at its end.
+ */
+public final class BoardState {
+    private static final int PLAYER_BYTES = Integer.BYTES + 3 + Short.BYTES + 2;
+
+    private final BoardLayout layout;
+    private final int[] money;
+    private final int[] location;
+    private final int[] remainingJailTime;
+    private final int[] successiveDoubles;
+    private final int[] owned;
+    private final int[] lastDie1;
+    private final int[] lastDie2;
+
+    /**
+     * Creates a state for a new game where every player starts at the starting point without
+     * any purchasables.
+     *
+     * @param layout        the layout of the game table
+     * @param playerCount   the number of players
+     * @param startingMoney the money every player starts with
+     */
+    public BoardState(BoardLayout layout, int playerCount, int startingMoney) {
+        this.layout = layout;
+        this.money = new int[playerCount];
+        this.location = new int[playerCount];
+        this.remainingJailTime = new int[playerCount];
+        this.successiveDoubles = new int[playerCount];
+        this.owned = new int[playerCount];
+        this.lastDie1 = new int[playerCount];
+        this.lastDie2 = new int[playerCount];
+        Arrays.fill(money, startingMoney);
+    }
+
+    /**
+     * Maps the state of the given game and its players into a new {@link BoardState}.
+     *
+     * @param game the game
+     * @return the primitive state of the game
+     */
+    public static BoardState load(Game game) {
+        List<Player> players = game.getPlayers();
+        BoardState state = new BoardState(BoardLayout.of(game.getGameTableConfiguration()),
+                players.size(), 0);
+        for (int slot = 0; slot < players.size(); slot++) {
+            Player player = players.get(slot);
+            state.money[slot] = player.getMoney();
+            state.location[slot] = player.getLocation();
+            state.remainingJailTime[slot] = player.getRemainingJailTime();
+            state.successiveDoubles[slot] = player.getSuccessiveDoubles();
+            state.owned[slot] = player.getOwnedMask();
+            state.lastDie1[slot] = player.getLastDie1();
+            state.lastDie2[slot] = player.getLastDie2();
+        }
+        return state;
+    }
+
+    /**
+     * Maps this state back into the given game's players.
+     * <br><br>
+     * Only the fields that differ from the state are written, so that the unchanged values are
+     * not boxed again. The persistence provider finds the changed players by comparing them with
+     * their loaded values either way.
+     *
+     * @param game the game this state was loaded from
+     */
+    public void store(Game game) {
+        List<Player> players = game.getPlayers();
+        for (int slot = 0; slot < players.size(); slot++) {
+            Player player = players.get(slot);
+            if (player.getMoney() != money[slot]) {
+                player.setMoney(money[slot]);
+            }
+            if (player.getLocation() != location[slot]) {
+                player.setLocation(location[slot]);
+            }
+            if (player.getRemainingJailTime() != remainingJailTime[slot]) {
+                player.setRemainingJailTime(remainingJailTime[slot]);
+            }
+            if (player.getSuccessiveDoubles() != successiveDoubles[slot]) {
+                player.setSuccessiveDoubles(successiveDoubles[slot]);
+            }
+            if (player.getOwnedMask() != owned[slot]) {
+                player.setOwnedMask(owned[slot]);
+            }
+            if (player.getLastDie1() != lastDie1[slot]) {
+                player.setLastDie1(lastDie1[slot]);
+            }
+            if (player.getLastDie2() != lastDie2[slot]) {
+                player.setLastDie2(lastDie2[slot]);
+            }
+        }
+    }
+
+    /**
+     * Encodes this state into a compact binary form.
+     * <br><br>
+     * The encoding consists of the canonical encoding of the layout, the number of players, and
+     * for each player their money, location, remaining jail time, successive doubles, ownership
+     * mask and last dice.
+     *
+     * @return the encoded state
+     * @see #fromBytes(byte[])
+     */
+    public byte[] toBytes() {
+        int playerCount = getPlayerCount();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 1 + playerCount * PLAYER_BYTES);
+        buffer.putLong(layout.getEncoding());
+        buffer.put((byte) playerCount);
+        for (int slot = 0; slot < playerCount; slot++) {
+            buffer.putInt(money[slot]);
+            buffer.put((byte) location[slot]);
+            buffer.put((byte) remainingJailTime[slot]);
+            buffer.put((byte) successiveDoubles[slot]);
+            buffer.putShort((short) owned[slot]);
+            buffer.put((byte) lastDie1[slot]);
+            buffer.put((byte) lastDie2[slot]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a state encoded with {@link #toBytes()}.
+     *
+     * @param bytes the encoded state
+     * @return the decoded state
+     */
+    public static BoardState fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        BoardLayout layout = BoardLayout.of(buffer.getLong());
+        int playerCount = buffer.get();
+        BoardState state = new BoardState(layout, playerCount, 0);
+        for (int slot = 0; slot < playerCount; slot++) {
+            state.money[slot] = buffer.getInt();
+            state.location[slot] = buffer.get();
+            state.remainingJailTime[slot] = buffer.get();
+            state.successiveDoubles[slot] = buffer.get();
+            state.owned[slot] = buffer.getShort() & 0xFFFF;
+            state.lastDie1[slot] = buffer.get();
+            state.lastDie2[slot] = buffer.get();
+        }
+        return state;
+    }
+
+    /**
+     * Converts a set of cell indices into an ownership mask.
+     *
+     * @param cells the indices of the cells
+     * @return the mask with the bits of the given cells set
+     */
+    public static int toMask(Set<Integer> cells) {
+        int mask = 0;
+        for (Integer cell : cells) {
+            mask |= BoardLayout.bit(cell);
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the slot of the given player in the given game.
+     *
+     * @param game   the game
+     * @param player a player of the game
+     * @return the slot of the player
+     * @throws IllegalArgumentException if the player does not belong to the game
+     */
+    public static int slotOf(Game game, Player player) {
+        List<Player> players = game.getPlayers();
+        for (int slot = 0; slot < players.size(); slot++) {
+            if (players.get(slot) == player || players.get(slot).equals(player)) {
+                return slot;
+            }
+        }
+        throw new IllegalArgumentException("player does not belong to the game");
+    }
+
+    /**
+     * Returns the slot of the player owning the given cell.
+     *
+     * @param cell the index of the cell
+     * @return the slot of the owner, or -1 if the cell is not owned by anyone
+     */
+    public int ownerOf(int cell) {
+        int bit = BoardLayout.bit(cell);
+        for (int slot = 0; slot < owned.length; slot++) {
+            if ((owned[slot] & bit) != 0) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the union of the purchases of all players.
+     *
+     * @return the mask of all purchased cells
+     */
+    public int purchasedMask() {
+        int mask = 0;
+        for (int playerMask : owned) {
+            mask |= playerMask;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of ports owned by the player in the given slot.
+     *
+     * @param slot the slot of the player
+     * @return the number of ports the player owns
+     */
+    public int portCount(int slot) {
+        return Integer.bitCount(owned[slot] & layout.getPortMask());
+    }
+
+    public boolean owns(int slot, int cell) {
+        return (owned[slot] & BoardLayout.bit(cell)) != 0;
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    public int getPlayerCount() {
+        return money.length;
+    }
+
+    public int getMoney(int slot) {
+        return money[slot];
+    }
+
+    public void setMoney(int slot, int value) {
+        money[slot] = value;
+    }
+
+    public int getLocation(int slot) {
+        return location[slot];
+    }
+
+    public void setLocation(int slot, int value) {
+        location[slot] = value;
+    }
+
+    public int getRemainingJailTime(int slot) {
+        return remainingJailTime[slot];
+    }
+
+    public void setRemainingJailTime(int slot, int value) {
+        remainingJailTime[slot] = value;
+    }
+
+    public int getSuccessiveDoubles(int slot) {
+        return successiveDoubles[slot];
+    }
+
+    public void setSuccessiveDoubles(int slot, int value) {
+        successiveDoubles[slot] = value;
+    }
+
+    public int getOwned(int slot) {
+        return owned[slot];
+    }
+
+    public void setOwned(int slot, int mask) {
+        owned[slot] = mask;
+    }
+
+    public int getLastDie1(int slot) {
+        return lastDie1[slot];
+    }
+
+    public int getLastDie2(int slot) {
+        return lastDie2[slot];
+    }
+
+    public void setLastDice(int slot, int die1, int die2) {
+        lastDie1[slot] = die1;
+        lastDie2[slot] = die2;
+    }
+}
@@ -0,0 +1,93 @@
+package group2.monopoly.game.service.engine.core;
+
+/**
+ * Immutable price, rent and port rent tables of a single {@link BoardLayout}.
+ * <br><br>
+ * Every lookup is a single array read indexed by the cell. Cells that are not purchasable have
+ * a price of zero in the tables.
+ *
+ * @see group2.monopoly.game.service.engine.CompiledCellPriceService
+ */
+public final class CellPriceTable implements CellPrices {
+    private final BoardLayout layout;
+    private final int[] prices;
+    private final int[] rents;
+    private final int[] portRents;
+    private final int salary;
+    private final int incomeTax;
+
+    /**
+     * Creates a table from the given arrays. The arrays are copied.
+     *
+     * @param layout    the layout the table belongs to
+     * @param prices    the purchase prices of the cells
+     * @param rents     the rents of the property cells
+     * @param portRents the rents of the port cells when the owner has a single port
+     * @param salary    the salary
+     * @param incomeTax the income tax
+     */
+    public CellPriceTable(BoardLayout layout, int[] prices, int[] rents, int[] portRents,
+                          int salary, int incomeTax) {
+        this.layout = layout;
+        this.prices = prices.clone();
+        this.rents = rents.clone();
+        this.portRents = portRents.clone();
+        this.salary = salary;
+        this.incomeTax = incomeTax;
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    @Override
+    public int price(int cell) {
+        return prices[cell];
+    }
+
+    /**
+     * Returns the rent of the given cell.
+     * <br><br>
+     * The rent of a port grows linearly with the number of ports the owner has.
+     *
+     * @param cell      the index of a property or port cell
+     * @param portCount the number of ports owned by the owner of the cell
+     * @return the rent of the cell
+     */
+    @Override
+    public int rent(int cell, int portCount) {
+        return layout.isPort(cell) ? portRents[cell] * portCount : rents[cell];
+    }
+
+    public int propertyRent(int cell) {
+        return rents[cell];
+    }
+
+    public int portRent(int cell, int portCount) {
+        return portRents[cell] * portCount;
+    }
+
+    @Override
+    public int salary() {
+        return salary;
+    }
+
+    @Override
+    public int incomeTax() {
+        return incomeTax;
+    }
+
+    /**
+     * Returns the total price of the given cells.
+     *
+     * @param mask the mask of the cells
+     * @return the sum of the prices of the cells
+     */
+    public int totalPrice(int mask) {
+        int total = 0;
+        for (int rest = mask; rest != 0; rest &= rest - 1) {
+            total += prices[Integer.numberOfTrailingZeros(rest)];
+        }
+        return total;
+    }
+}
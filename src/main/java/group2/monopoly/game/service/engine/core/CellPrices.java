@@ -0,0 +1,39 @@
+package group2.monopoly.game.service.engine.core;
+
+/**
+ * Primitive view of the prices and rents of a single game table, used by {@link GameRules}.
+ *
+ * @see CellPriceTable
+ */
+public interface CellPrices {
+    /**
+     * Returns the price of the purchasable cell in the specified index.
+     *
+     * @param cell the index of a property or port cell
+     * @return the price of the cell
+     */
+    int price(int cell);
+
+    /**
+     * Returns the rent of the purchasable cell in the specified index.
+     *
+     * @param cell      the index of a property or port cell
+     * @param portCount the number of ports owned by the owner of the cell
+     * @return the rent a player should pay to the owner after landing on the cell
+     */
+    int rent(int cell, int portCount);
+
+    /**
+     * Returns the salary a player gets after completing a full tour of the table.
+     *
+     * @return the salary
+     */
+    int salary();
+
+    /**
+     * Returns the income tax cost.
+     *
+     * @return income tax
+     */
+    int incomeTax();
+}
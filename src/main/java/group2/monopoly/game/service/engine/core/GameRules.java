@@ -0,0 +1,206 @@
+package group2.monopoly.game.service.engine.core;
+
+/**
+ * The rules of the game, implemented over a primitive {@link BoardState}.
+ * <br><br>
+ * The rules do not depend on persistence, dice generation or logging. The outcome of every rule
+ * application is reported to the given {@link TurnListener}, and the methods that can bankrupt
+ * a player return {@link #BANKRUPT} when they do so. Once a player goes bankrupt, the rest of
+ * the step is not executed.
+ */
+public final class GameRules {
+    public static final int CONTINUE = 0;
+    public static final int BANKRUPT = 1;
+
+    public static final int JAIL_DURATION = 2;
+    public static final int MAX_SUCCESSIVE_DOUBLES = 3;
+
+    private GameRules() {
+    }
+
+    /**
+     * Serves a turn of the jail time of the player, if the player is in jail.
+     *
+     * @param state    the game state
+     * @param slot     the slot of the player
+     * @param listener the listener to notify
+     * @return true if the player was in jail, in which case they can not move this turn
+     */
+    public static boolean serveJailTime(BoardState state, int slot, TurnListener listener) {
+        int remaining = state.getRemainingJailTime(slot);
+        if (remaining <= 0) {
+            return false;
+        }
+        state.setRemainingJailTime(slot, remaining - 1);
+        listener.onJailTimeServed(slot, remaining - 1);
+        return true;
+    }
+
+    /**
+     * Executes the movement phase of the player's turn with the given dice.
+     * <br><br>
+     * The player is sent to jail after rolling three successive doubles. Otherwise the player
+     * moves, gets paid their salary if they went past the starting point, goes to jail if they
+     * landed on 'Go to Jail' cell, and pays the income tax or the rent of the cell they landed on.
+     *
+     * @param state    the game state
+     * @param slot     the slot of the player
+     * @param die1     the first rolled die
+     * @param die2     the second rolled die
+     * @param prices   the prices of the table
+     * @param listener the listener to notify
+     * @return {@link #BANKRUPT} if the player goes bankrupt, {@link #CONTINUE} otherwise
+     */
+    public static int move(BoardState state, int slot, int die1, int die2, CellPrices prices,
+                           TurnListener listener) {
+        state.setLastDice(slot, die1, die2);
+        listener.onRoll(slot, die1, die2);
+
+        if (die1 == die2) {
+            int doubles = state.getSuccessiveDoubles(slot) + 1;
+            state.setSuccessiveDoubles(slot, doubles);
+            if (doubles == MAX_SUCCESSIVE_DOUBLES) {
+                goToJail(state, slot, true, listener);
+                return CONTINUE;
+            }
+        } else {
+            state.setSuccessiveDoubles(slot, 0);
+        }
+
+        int oldLocation = state.getLocation(slot);
+        int location = (oldLocation + die1 + die2) % BoardLayout.TABLE_SIZE;
+        state.setLocation(slot, location);
+        listener.onMove(slot, oldLocation, location);
+
+        if (oldLocation > location) {
+            // only happens if the player went past the starting point
+            pay(state, slot, prices.salary());
+            listener.onSalary(slot, prices.salary());
+        } else if (location == BoardLayout.GOTO_JAIL_CELL) {
+            goToJail(state, slot, false, listener);
+        }
+
+        BoardLayout layout = state.getLayout();
+        if (location == layout.getIncomeTaxIndex()) {
+            listener.onIncomeTax(slot, prices.incomeTax());
+            return withdraw(state, slot, prices.incomeTax(), listener);
+        }
+        return payRent(state, slot, location, prices, listener);
+    }
+
+    /**
+     * Charges the player with the rent of the given cell if it is owned by another player, and
+     * pays the rent to the owner.
+     *
+     * @param state    the game state
+     * @param slot     the slot of the player who landed on the cell
+     * @param cell     the index of the cell
+     * @param prices   the prices of the table
+     * @param listener the listener to notify
+     * @return {@link #BANKRUPT} if the player goes bankrupt, {@link #CONTINUE} otherwise
+     */
+    public static int payRent(BoardState state, int slot, int cell, CellPrices prices,
+                              TurnListener listener) {
+        int owner = state.ownerOf(cell);
+        if (owner < 0) {
+            return CONTINUE;
+        } else if (owner == slot) {
+            listener.onOwnCell(slot, cell);
+            return CONTINUE;
+        }
+        int rent = prices.rent(cell, state.portCount(owner));
+        if (state.getMoney(slot) < rent) {
+            // the owner is not paid when the player can not afford the rent
+            return charge(state, slot, rent, listener);
+        }
+        listener.onRent(slot, owner, cell, rent);
+        withdraw(state, slot, rent, listener);
+        pay(state, owner, rent);
+        return CONTINUE;
+    }
+
+    /**
+     * Checks whether the player can purchase the given cell.
+     * <br><br>
+     * A cell can be purchased if it is a property or a port, it is not owned by anyone and the
+     * player has enough money to pay its price.
+     *
+     * @param state  the game state
+     * @param slot   the slot of the player
+     * @param cell   the index of the cell
+     * @param prices the prices of the table
+     * @return true if the player can buy the cell
+     */
+    public static boolean canBuy(BoardState state, int slot, int cell, CellPrices prices) {
+        int bit = BoardLayout.bit(cell);
+        if ((state.getLayout().getPurchasableMask() & bit) == 0
+            || (state.purchasedMask() & bit) != 0) {
+            return false;
+        }
+        return state.getMoney(slot) >= prices.price(cell);
+    }
+
+    /**
+     * Transfers the ownership of the given cell to the player and charges them with its price.
+     * <br><br>
+     * Whether the player can buy the cell should be checked beforehand with
+     * {@link #canBuy(BoardState, int, int, CellPrices)}.
+     *
+     * @param state    the game state
+     * @param slot     the slot of the player
+     * @param cell     the index of the cell
+     * @param prices   the prices of the table
+     * @param listener the listener to notify
+     */
+    public static void purchase(BoardState state, int slot, int cell, CellPrices prices,
+                                TurnListener listener) {
+        int price = prices.price(cell);
+        state.setOwned(slot, state.getOwned(slot) | BoardLayout.bit(cell));
+        state.setMoney(slot, state.getMoney(slot) - price);
+        listener.onPurchase(slot, cell, price);
+    }
+
+    /**
+     * Decreases the player's money amount.
+     *
+     * @param state    the game state
+     * @param slot     the slot of the player
+     * @param cost     the amount of money to be charged
+     * @param listener the listener to notify
+     * @return {@link #BANKRUPT} if the player goes bankrupt, {@link #CONTINUE} otherwise
+     */
+    public static int charge(BoardState state, int slot, int cost, TurnListener listener) {
+        listener.onCharge(slot, cost);
+        return withdraw(state, slot, cost, listener);
+    }
+
+    /**
+     * Sends the player to jail.
+     *
+     * @param state        the game state
+     * @param slot         the slot of the player
+     * @param threeDoubles whether the player is jailed for rolling three successive doubles
+     * @param listener     the listener to notify
+     */
+    public static void goToJail(BoardState state, int slot, boolean threeDoubles,
+                                TurnListener listener) {
+        state.setLocation(slot, BoardLayout.JAIL_CELL);
+        state.setRemainingJailTime(slot, JAIL_DURATION);
+        state.setSuccessiveDoubles(slot, 0);
+        listener.onGoToJail(slot, threeDoubles);
+    }
+
+    private static int withdraw(BoardState state, int slot, int amount, TurnListener listener) {
+        int money = state.getMoney(slot) - amount;
+        state.setMoney(slot, money);
+        if (money < 0) {
+            listener.onBankrupt(slot);
+            return BANKRUPT;
+        }
+        return CONTINUE;
+    }
+
+    private static void pay(BoardState state, int slot, int amount) {
+        state.setMoney(slot, state.getMoney(slot) + amount);
+    }
+}
@@ -0,0 +1,52 @@
+package group2.monopoly.game.service.engine.core;
+
+/**
+ * Callback interface notified by {@link GameRules} about the outcome of each rule application.
+ * <br><br>
+ * Players are referred to with their slots in the {@link BoardState}. All methods do nothing by
+ * default, so implementations only override the events they are interested in.
+ * <br>
+ * Every change {@link GameRules} make to a {@link BoardState} is reported, so applying the
+ * reported events to the state before the rules were applied results in the same state.
+ */
+public interface TurnListener {
+    TurnListener NONE = new TurnListener() {
+    };
+
+    default void onJailTimeServed(int slot, int remainingJailTime) {
+    }
+
+    default void onRoll(int slot, int die1, int die2) {
+    }
+
+    default void onMove(int slot, int from, int to) {
+    }
+
+    default void onSalary(int slot, int amount) {
+    }
+
+    default void onIncomeTax(int slot, int amount) {
+    }
+
+    /**
+     * Called when the player pays the rent of a cell to its owner. If the player can not afford
+     * the rent, {@link #onCharge(int, int)} and {@link #onBankrupt(int)} are called instead.
+     */
+    default void onRent(int payerSlot, int ownerSlot, int cell, int amount) {
+    }
+
+    default void onOwnCell(int slot, int cell) {
+    }
+
+    default void onPurchase(int slot, int cell, int price) {
+    }
+
+    default void onGoToJail(int slot, boolean threeDoubles) {
+    }
+
+    default void onCharge(int slot, int amount) {
+    }
+
+    default void onBankrupt(int slot) {
+    }
+}
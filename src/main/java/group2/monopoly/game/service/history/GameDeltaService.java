@@ -0,0 +1,123 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.payload.GameDeltaDTO.PlayerDelta;
+import group2.monopoly.game.service.store.IGameStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service class describing the changes in the state of a game since a given turn.
+ * <br><br>
+ * The fields that changed are found from the events of the game after the turn, and their
+ * values are read from the current state of the game. Every turn records at least one event, so
+ * the events of a turn older than the kept history of the game are known to be missing, in which
+ * case the whole state is described.
+ */
+@Service
+public class GameDeltaService {
+    private static final int MONEY = 1;
+    private static final int LOCATION = 1 << 1;
+    private static final int JAIL = 1 << 2;
+    private static final int DICE = 1 << 3;
+    private static final int ALL = MONEY | LOCATION | JAIL | DICE;
+
+    private final IGameStore gameStore;
+
+    @Autowired
+    public GameDeltaService(IGameStore gameStore) {
+        this.gameStore = gameStore;
+    }
+
+    /**
+     * Returns the changes in the state of the game since the given turn.
+     *
+     * @param game  the game in its current state
+     * @param since the last turn the client has seen
+     * @return the changes after the given turn, or the whole state of the players if the given
+     * turn is not a turn of the game or is older than its kept history
+     */
+    public GameDeltaDTO getDelta(Game game, Long since) {
+        if (since < 0 || since > game.getTurn()) {
+            return getState(game);
+        }
+        // the store may already hold the events of later turns than the given state of the game
+        List<GameEvent> events = gameStore.getEvents(game.getId(), since).stream()
+                .filter(event -> event.getTurn() <= game.getTurn())
+                .toList();
+        if (since < game.getTurn() && (events.isEmpty() || events.get(0).getTurn() != since + 1)) {
+            return getState(game);
+        }
+        return getDelta(game, since, events);
+    }
+
+    private static GameDeltaDTO getState(Game game) {
+        List<Player> players = game.getPlayers();
+        List<PlayerDelta> deltas = new ArrayList<>(players.size());
+        for (int slot = 0; slot < players.size(); slot++) {
+            Player player = players.get(slot);
+            deltas.add(toPlayerDelta(slot, player, ALL, player.getOwnedPurchasables()));
+        }
+        return new GameDeltaDTO(game.getId(), 0L, game.getTurn(), deltas);
+    }
+
+    /**
+     * Returns the changes in the state of the game recorded by the given events.
+     *
+     * @param game   the game in its current state
+     * @param since  the last turn before the events
+     * @param events the events after the given turn, up to the current state of the game
+     * @return the changes recorded by the events
+     */
+    public GameDeltaDTO getDelta(Game game, Long since, List<GameEvent> events) {
+        List<Player> players = game.getPlayers();
+        List<PlayerDelta> deltas = new ArrayList<>();
+        int[] changes = new int[players.size()];
+        List<List<Integer>> purchases = new ArrayList<>();
+        players.forEach(player -> purchases.add(new ArrayList<>()));
+        for (GameEvent event : events) {
+            int slot = event.getPlayerSlot();
+            switch (event.getType()) {
+                case JAIL_TIME_SERVED -> changes[slot] |= JAIL;
+                case DICE_ROLLED -> changes[slot] |= DICE;
+                case MOVED -> changes[slot] |= LOCATION;
+                case SALARY_PAID, INCOME_TAX_PAID, CHARGED, BANKRUPT -> changes[slot] |= MONEY;
+                case RENT_PAID -> {
+                    changes[slot] |= MONEY;
+                    changes[event.getArg3()] |= MONEY;
+                }
+                case PURCHASED -> {
+                    changes[slot] |= MONEY;
+                    purchases.get(slot).add(event.getArg1());
+                }
+                case JAILED -> changes[slot] |= LOCATION | JAIL;
+            }
+        }
+        for (int slot = 0; slot < players.size(); slot++) {
+            List<Integer> purchased = purchases.get(slot);
+            if (changes[slot] != 0 || !purchased.isEmpty()) {
+                deltas.add(toPlayerDelta(slot, players.get(slot), changes[slot],
+                        purchased.isEmpty() ? null : new LinkedHashSet<>(purchased)));
+            }
+        }
+        return new GameDeltaDTO(game.getId(), since, game.getTurn(), deltas);
+    }
+
+    private static PlayerDelta toPlayerDelta(int slot, Player player, int changes,
+                                             Set<Integer> purchased) {
+        return new PlayerDelta(slot,
+                (changes & MONEY) != 0 ? player.getMoney() : null,
+                (changes & LOCATION) != 0 ? player.getLocation() : null,
+                (changes & JAIL) != 0 ? player.getRemainingJailTime() : null,
+                (changes & DICE) != 0 ? player.getLastDice() : null,
+                purchased);
+    }
+}
@@ -0,0 +1,121 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.entity.GameEventType;
+import group2.monopoly.game.service.engine.core.TurnListener;
+
+import java.util.List;
+
+/**
+ * {@link TurnListener} that records the outcome of the game rules as {@link GameEvent}s of the
+ * current turn of a game.
+ * <br><br>
+ * The events are appended to the pending events of the game, to be saved along with the game by
+ * its store. Every event is also forwarded to the given delegate.
+ */
+public class GameEventRecorder implements TurnListener {
+    private final Game game;
+    private final TurnListener delegate;
+    private int seq;
+
+    public GameEventRecorder(Game game, TurnListener delegate) {
+        this.game = game;
+        this.delegate = delegate;
+        this.seq = nextSeq(game);
+    }
+
+    /**
+     * Returns the sequence number of the next event of the current turn of the game.
+     *
+     * @param game the game
+     * @return the number of pending events in the current turn of the game
+     */
+    private static int nextSeq(Game game) {
+        List<GameEvent> events = game.getPendingEvents();
+        int i = events.size() - 1;
+        while (i >= 0 && events.get(i).getTurn().equals(game.getTurn())) {
+            i--;
+        }
+        return events.size() - 1 - i;
+    }
+
+    private void record(GameEventType type, int slot, int arg1, int arg2, int arg3) {
+        game.getPendingEvents().add(GameEvent
+                .builder()
+                .gameId(game.getId())
+                .turn(game.getTurn())
+                .seq(seq++)
+                .type(type)
+                .playerSlot(slot)
+                .arg1(arg1)
+                .arg2(arg2)
+                .arg3(arg3)
+                .build());
+    }
+
+    @Override
+    public void onJailTimeServed(int slot, int remainingJailTime) {
+        record(GameEventType.JAIL_TIME_SERVED, slot, remainingJailTime, 0, 0);
+        delegate.onJailTimeServed(slot, remainingJailTime);
+    }
+
+    @Override
+    public void onRoll(int slot, int die1, int die2) {
+        record(GameEventType.DICE_ROLLED, slot, die1, die2, 0);
+        delegate.onRoll(slot, die1, die2);
+    }
+
+    @Override
+    public void onMove(int slot, int from, int to) {
+        record(GameEventType.MOVED, slot, from, to, 0);
+        delegate.onMove(slot, from, to);
+    }
+
+    @Override
+    public void onSalary(int slot, int amount) {
+        record(GameEventType.SALARY_PAID, slot, amount, 0, 0);
+        delegate.onSalary(slot, amount);
+    }
+
+    @Override
+    public void onIncomeTax(int slot, int amount) {
+        record(GameEventType.INCOME_TAX_PAID, slot, amount, 0, 0);
+        delegate.onIncomeTax(slot, amount);
+    }
+
+    @Override
+    public void onRent(int payerSlot, int ownerSlot, int cell, int amount) {
+        record(GameEventType.RENT_PAID, payerSlot, cell, amount, ownerSlot);
+        delegate.onRent(payerSlot, ownerSlot, cell, amount);
+    }
+
+    @Override
+    public void onOwnCell(int slot, int cell) {
+        delegate.onOwnCell(slot, cell);
+    }
+
+    @Override
+    public void onPurchase(int slot, int cell, int price) {
+        record(GameEventType.PURCHASED, slot, cell, price, 0);
+        delegate.onPurchase(slot, cell, price);
+    }
+
+    @Override
+    public void onGoToJail(int slot, boolean threeDoubles) {
+        record(GameEventType.JAILED, slot, threeDoubles ? 1 : 0, 0, 0);
+        delegate.onGoToJail(slot, threeDoubles);
+    }
+
+    @Override
+    public void onCharge(int slot, int amount) {
+        record(GameEventType.CHARGED, slot, amount, 0, 0);
+        delegate.onCharge(slot, amount);
+    }
+
+    @Override
+    public void onBankrupt(int slot) {
+        record(GameEventType.BANKRUPT, slot, 0, 0, 0);
+        delegate.onBankrupt(slot);
+    }
+}
@@ -0,0 +1,68 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.engine.core.GameRules;
+
+/**
+ * Applies recorded {@link GameEvent}s to a {@link BoardState}.
+ * <br><br>
+ * Replaying the events recorded by {@link GameEventRecorder} on the state the rules were applied
+ * to results in the same state the rules produced.
+ */
+public final class GameEventReplayer {
+    private GameEventReplayer() {
+    }
+
+    /**
+     * Applies the given events to the state, in order.
+     *
+     * @param state  the state
+     * @param events the events to apply
+     */
+    public static void replay(BoardState state, Iterable<GameEvent> events) {
+        for (GameEvent event : events) {
+            apply(state, event);
+        }
+    }
+
+    /**
+     * Applies the given event to the state.
+     *
+     * @param state the state
+     * @param event the event to apply
+     */
+    public static void apply(BoardState state, GameEvent event) {
+        int slot = event.getPlayerSlot();
+        switch (event.getType()) {
+            case JAIL_TIME_SERVED -> state.setRemainingJailTime(slot, event.getArg1());
+            case DICE_ROLLED -> {
+                state.setLastDice(slot, event.getArg1(), event.getArg2());
+                state.setSuccessiveDoubles(slot, event.getArg1() == event.getArg2() ?
+                        state.getSuccessiveDoubles(slot) + 1 : 0);
+            }
+            case MOVED -> state.setLocation(slot, event.getArg2());
+            case SALARY_PAID -> state.setMoney(slot, state.getMoney(slot) + event.getArg1());
+            case INCOME_TAX_PAID, CHARGED ->
+                    state.setMoney(slot, state.getMoney(slot) - event.getArg1());
+            case RENT_PAID -> {
+                int owner = event.getArg3();
+                state.setMoney(slot, state.getMoney(slot) - event.getArg2());
+                state.setMoney(owner, state.getMoney(owner) + event.getArg2());
+            }
+            case PURCHASED -> {
+                state.setOwned(slot, state.getOwned(slot) | BoardLayout.bit(event.getArg1()));
+                state.setMoney(slot, state.getMoney(slot) - event.getArg2());
+            }
+            case JAILED -> {
+                state.setLocation(slot, BoardLayout.JAIL_CELL);
+                state.setRemainingJailTime(slot, GameRules.JAIL_DURATION);
+                state.setSuccessiveDoubles(slot, 0);
+            }
+            case BANKRUPT -> {
+                // the money of the player is already negative
+            }
+        }
+    }
+}
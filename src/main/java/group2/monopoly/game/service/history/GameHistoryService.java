@@ -0,0 +1,186 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.entity.GameHistory;
+import group2.monopoly.game.entity.GameSnapshot;
+import group2.monopoly.game.repository.GameEventRepository;
+import group2.monopoly.game.repository.GameHistoryRepository;
+import group2.monopoly.game.repository.GameSnapshotRepository;
+import group2.monopoly.game.service.engine.core.BoardState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class maintaining the recent history of the games.
+ * <br><br>
+ * The rows of the games and their players remain the state the turns are played on. The state
+ * changes of each turn are also recorded as {@link GameEvent}s and appended to the log in one
+ * batch when the game is persisted, so that the changes since a turn can be told to the clients,
+ * and the state of a game in its latest turn can be rebuilt from its latest {@link GameSnapshot}
+ * and the events after it.
+ * <br>
+ * A snapshot is written when a game is created, and the number of turns recorded since the latest
+ * snapshot is counted in its {@link GameHistory}. A background compactor writes a new snapshot of
+ * the games with 'monopoly.game.history.snapshot-turns' such turns, and deletes the events and
+ * the snapshots it covers, so the history of a game only goes back to its latest snapshot.
+ * <br>
+ * The log is written on top of the rows rather than instead of them, as the listings, the access
+ * checks and the archive query the rows. A turn costs two more statements than the update of the
+ * rows of the game and its players: the batched insert of its events, and the increment of its
+ * counter. The rows are saved less often with the in-memory game store, which appends the events
+ * of the unsaved turns when it saves the game.
+ */
+@Slf4j
+@Service
+public class GameHistoryService {
+    private final GameEventRepository eventRepository;
+    private final GameSnapshotRepository snapshotRepository;
+    private final GameHistoryRepository historyRepository;
+    private final long snapshotTurns;
+
+    @Autowired
+    public GameHistoryService(GameEventRepository eventRepository,
+                              GameSnapshotRepository snapshotRepository,
+                              GameHistoryRepository historyRepository,
+                              @Value("${monopoly.game.history.snapshot-turns}") long snapshotTurns) {
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.historyRepository = historyRepository;
+        this.snapshotTurns = snapshotTurns;
+    }
+
+    /**
+     * Appends the pending events of the game to the log. Should be called in the transaction
+     * persisting the game.
+     *
+     * @param game the game
+     */
+    public void append(Game game) {
+        List<GameEvent> events = game.getPendingEvents();
+        if (events.isEmpty()) {
+            return;
+        }
+        eventRepository.saveAll(events);
+        historyRepository.addPendingTurns(game.getId(), countTurns(events));
+        events.clear();
+    }
+
+    /**
+     * Writes the first snapshot of a new game, and starts counting its turns. Should be called in
+     * the transaction creating the game.
+     *
+     * @param game the game
+     */
+    public void snapshot(Game game) {
+        snapshotRepository.save(GameSnapshot
+                .builder()
+                .gameId(game.getId())
+                .turn(game.getTurn())
+                .state(BoardState.load(game).toBytes())
+                .build());
+        historyRepository.save(GameHistory.builder().gameId(game.getId()).build());
+    }
+
+    /**
+     * Rebuilds the state of the game in its latest recorded turn.
+     *
+     * @param gameId id of the game
+     * @return the state of the game, or empty if the game has no snapshots
+     */
+    @Transactional(readOnly = true)
+    public Optional<BoardState> rebuild(Long gameId) {
+        return snapshotRepository.findFirstByGameIdOrderByTurnDesc(gameId)
+                .map(snapshot -> replay(snapshot).state);
+    }
+
+    /**
+     * Returns the events of the game after the given turn, in the order they happened. Only the
+     * events after the latest snapshot of the game are kept, so the events of earlier turns are
+     * missing.
+     *
+     * @param gameId id of the game
+     * @param turn   the last turn to exclude
+     * @return the events
+     */
+    @Transactional(readOnly = true)
+    public List<GameEvent> getEvents(Long gameId, Long turn) {
+        return eventRepository.findByGameIdAndTurnGreaterThanOrderByTurnAscSeqAsc(gameId, turn);
+    }
+
+    /**
+     * Deletes the whole history of the game.
+     *
+     * @param gameId id of the game
+     */
+    @Transactional
+    public void delete(Long gameId) {
+        eventRepository.deleteByGameId(gameId);
+        snapshotRepository.deleteByGameId(gameId);
+        historyRepository.deleteByGameId(gameId);
+    }
+
+    /**
+     * Writes new snapshots for the games with many turns since their latest snapshot, and deletes
+     * the events and the snapshots they cover.
+     */
+    @Scheduled(fixedDelayString = "${monopoly.game.history.compaction-interval}")
+    @Transactional
+    public void compact() {
+        List<Long> gameIds = historyRepository.findGameIdsWithPendingTurns(snapshotTurns);
+        for (Long gameId : gameIds) {
+            snapshotRepository.findFirstByGameIdOrderByTurnDesc(gameId).ifPresent(snapshot -> {
+                Replay replay = replay(snapshot);
+                if (replay.turn == snapshot.getTurn()) {
+                    return;
+                }
+                snapshotRepository.save(GameSnapshot
+                        .builder()
+                        .gameId(gameId)
+                        .turn(replay.turn)
+                        .state(replay.state.toBytes())
+                        .build());
+                eventRepository.deleteByGameIdUpToTurn(gameId, replay.turn);
+                snapshotRepository.deleteByGameIdBeforeTurn(gameId, replay.turn);
+                // turns appended concurrently after the replay remain counted
+                historyRepository.addPendingTurns(gameId, snapshot.getTurn() - replay.turn);
+            });
+        }
+        if (!gameIds.isEmpty()) {
+            log.info("compacted the history of " + gameIds.size() + " games");
+        }
+    }
+
+    private Replay replay(GameSnapshot snapshot) {
+        BoardState state = BoardState.fromBytes(snapshot.getState());
+        List<GameEvent> events = getEvents(snapshot.getGameId(), snapshot.getTurn());
+        GameEventReplayer.replay(state, events);
+        long turn = events.isEmpty() ? snapshot.getTurn() : events.get(events.size() - 1).getTurn();
+        return new Replay(state, turn);
+    }
+
+    /**
+     * Returns the number of turns the given events, in the order they happened, were recorded in.
+     */
+    private static long countTurns(List<GameEvent> events) {
+        long turns = 0;
+        Long turn = null;
+        for (GameEvent event : events) {
+            if (!event.getTurn().equals(turn)) {
+                turn = event.getTurn();
+                turns++;
+            }
+        }
+        return turns;
+    }
+
+    private record Replay(BoardState state, long turn) {
+    }
+}
@@ -5,15 +5,23 @@ import group2.monopoly.game.entity.Game;
 import group2.monopoly.game.entity.GameTableConfiguration;
 import group2.monopoly.game.entity.Player;
 import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.payload.GameSummaryDTO;
+import group2.monopoly.game.repository.GameListingRow;
 import group2.monopoly.game.repository.GameRepository;
 import group2.monopoly.game.repository.PlayerRepository;
+import group2.monopoly.game.service.history.GameHistoryService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service class handling creation and deletion of {@link Game} entities.
@@ -25,34 +33,34 @@ public class GameManagerService {
 
     private final PlayerRepository playerRepository;
 
+    private final GameHistoryService historyService;
+
+    private final TableLayoutService layoutService;
+
+    private final TransactionTemplate transactionTemplate;
+
     @Autowired
     public GameManagerService(ICellSequenceGenerator cellSequenceGenerator,
-                              GameRepository gameRepository, PlayerRepository playerRepository) {
+                              GameRepository gameRepository, PlayerRepository playerRepository,
+                              GameHistoryService historyService,
+                              TableLayoutService layoutService,
+                              PlatformTransactionManager transactionManager) {
         this.cellSequenceGenerator = cellSequenceGenerator;
         this.gameRepository = gameRepository;
         this.playerRepository = playerRepository;
-    }
-
-    /**
-     * Fills the {@link GameTableConfiguration} according to the description in the given sequence.
-     * <br><br>
-     * Indices of income tax, port, and property cells are set as described in the sequence.
-     *
-     * @param table    Game table to be configured
-     * @param sequence The cell sequence information the table will be filled with
-     */
-    private void populateIndexes(GameTableConfiguration table, CellSequence sequence) {
-        ArrayList<Integer> portIndices = sequence.getPortIndexes();
-        table.setPortIndices(portIndices);
-
-        ArrayList<Integer> propertyIndices = sequence.getPropertyIndexes();
-        table.setPropertyIndices(propertyIndices);
-
-        table.setIncomeTaxIndex(sequence.getIncomeTax());
+        this.historyService = historyService;
+        this.layoutService = layoutService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Creates a new game with the supplied unique name.
+     * <br><br>
+     * The initial state of the game is written as the first snapshot of its history. The layout
+     * of the game is registered first if it is new, and the game, its players and its snapshot
+     * are then inserted in a single flush, with ids taken from pooled sequences. The uniqueness
+     * of the name is checked by the unique constraint of the name column, and the violations of
+     * any other constraint are rethrown as they are.
      *
      * @param user the user requesting the creation
      * @param name name of the game to be created
@@ -61,17 +69,16 @@ public class GameManagerService {
      */
     public Game createGame(@NotNull User user, @NotNull String name) throws GameManagementException {
         CellSequence cellSequence = cellSequenceGenerator.generateCellSequence();
-        if (gameRepository.existsByName(name)) {
-            throw new GameManagementException("game with name " + name + " exists");
-        }
 
-        GameTableConfiguration table = new GameTableConfiguration();
-        populateIndexes(table, cellSequence);
+        GameTableConfiguration table = layoutService.register(new GameTableConfiguration(
+                cellSequence.getIncomeTax(), cellSequence.getPropertyIndexes(),
+                cellSequence.getPortIndexes()));
         Game game = Game
                 .builder()
                 .owner(user)
                 .name(name)
                 .gameTableConfiguration(table)
+                .diceSeed(ThreadLocalRandom.current().nextLong())
                 .build();
         Player player = Player
                 .builder()
@@ -89,10 +96,34 @@ public class GameManagerService {
                 .build();
         game.getPlayers().add(player);
         game.getPlayers().add(computer);
-        gameRepository.save(game);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                gameRepository.save(game);
+                historyService.snapshot(game);
+                gameRepository.flush();
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, Game.NAME_CONSTRAINT)) {
+                throw e;
+            }
+            throw new GameManagementException("game with name " + name + " exists");
+        }
         return game;
     }
 
+    /**
+     * Checks whether the given exception was caused by the violation of the given constraint.
+     *
+     * @param e          the exception
+     * @param constraint name of the constraint
+     * @return true if the named constraint was violated
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        return e.getCause() instanceof ConstraintViolationException violation
+               && violation.getConstraintName() != null
+               && violation.getConstraintName().toLowerCase().contains(constraint);
+    }
+
     /**
      * Deletes an ongoing game belonging to the user.
      *
@@ -108,16 +139,30 @@ public class GameManagerService {
             throw new GameManagementException("can not delete already completed games");
         }
         gameRepository.delete(game);
+        historyService.delete(game.getId());
     }
 
     /**
-     * Gets the ongoing games the user is a player of.
+     * Gets the summaries of the ongoing games the user is a player of.
+     * <br><br>
+     * The summaries are read with a single query regardless of the number of games.
      *
      * @param user the user requesting the games
-     * @return list of games playable by the user
+     * @return list of summaries of the games playable by the user, ordered by game id
      */
-    public List<Game> getAvailableGames(User user) {
-        return gameRepository.findUnfinishedGamesByUser(user);
+    public List<GameSummaryDTO> getAvailableGames(User user) {
+        List<GameSummaryDTO> games = new ArrayList<>();
+        GameSummaryDTO current = null;
+        for (GameListingRow row : gameRepository.findUnfinishedGameListingByUser(user)) {
+            if (current == null || !current.getId().equals(row.getGameId())) {
+                current = new GameSummaryDTO(row.getGameId(), row.getName(), row.getTurn(),
+                        row.getOwner(), new ArrayList<>());
+                games.add(current);
+            }
+            current.getPlayers().add(new GameSummaryDTO.PlayerSummary(row.getTurnOrder(),
+                    row.getUsername(), row.getMoney(), row.getLocation()));
+        }
+        return games;
     }
 
     /**
@@ -129,7 +174,25 @@ public class GameManagerService {
      * @throws GameManagementException if no such game that the user is a player of exists
      */
     public Game getGame(User user, Long gameId) throws GameManagementException {
-        Optional<Game> optionalGame = gameRepository.findById(gameId);
-        return optionalGame.filter(g -> g.getPlayers().stream().anyMatch(p -> p.getUser().equals(user))).orElseThrow(() -> new GameManagementException("user is not a player of this game"));
+        return requirePlayer(user, gameRepository.findById(gameId));
+    }
+
+    /**
+     * Returns the given game if it exists and the user is a player of the game.
+     *
+     * @param user         the user requesting the game
+     * @param optionalGame the game, if it exists
+     * @return the requested game
+     * @throws GameManagementException if the game does not exist or the user is not a player of
+     *                                 the game
+     */
+    public Game requirePlayer(User user, Optional<Game> optionalGame)
+            throws GameManagementException {
+        return optionalGame
+                .filter(g -> g.getPlayers()
+                        .stream()
+                        .anyMatch(p -> user.equals(p.getUser())))
+                .orElseThrow(() ->
+                        new GameManagementException("user is not a player of this game"));
     }
 }
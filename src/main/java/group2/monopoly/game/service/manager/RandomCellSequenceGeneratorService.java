@@ -17,13 +17,23 @@ public class RandomCellSequenceGeneratorService implements ICellSequenceGenerato
      */
     @Override
     public CellSequence generateCellSequence() {
+        return generateCellSequence(new Random());
+    }
+
+    /**
+     * Generates a {@link CellSequence} with the given random number generator, so that seeded
+     * generators give the same sequences.
+     *
+     * @param rand the random number generator
+     * @return the randomly generated cell sequence
+     */
+    public CellSequence generateCellSequence(Random rand) {
         CellSequence cellSequence = new CellSequence();
         int remainingIncomeTax = 1;
         int remainingProperty = 8;
         int remainingFerry = 4;
         int total = remainingIncomeTax + remainingProperty + remainingFerry;
 
-        Random rand = new Random();
         for (int i = 1; i < 16; i++) {
 
             // Go to jail and Jail
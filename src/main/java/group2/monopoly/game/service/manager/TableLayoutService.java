@@ -0,0 +1,108 @@
+package group2.monopoly.game.service.manager;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.entity.TableLayout;
+import group2.monopoly.game.repository.TableLayoutRepository;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service class registering the layouts of the game tables in the 'board_layout' table, which
+ * the 'board_layout' column of the games references.
+ * <br><br>
+ * The registered layouts are read once on startup, and the encodings of the layouts known to be
+ * registered are cached in memory, so the database is only accessed the first time a layout is
+ * seen. A new layout is registered in its own transaction, suspending the active one if any, so
+ * that a failed insert does not roll back the caller, and is cached once that transaction
+ * commits. Registering a layout that is registered concurrently by another transaction succeeds.
+ */
+@Slf4j
+@Service
+public class TableLayoutService {
+    private final TableLayoutRepository layoutRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> registered = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TableLayoutService(TableLayoutRepository layoutRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.layoutRepository = layoutRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reads the registered layouts, and interns them.
+     */
+    @PostConstruct
+    public void load() {
+        for (TableLayout layout : layoutRepository.findAll()) {
+            registered.add(BoardLayout.of(layout.getEncoding()).getEncoding());
+        }
+        log.info("loaded " + registered.size() + " board layouts");
+    }
+
+    /**
+     * Registers the layout of the given table if it is not registered yet.
+     *
+     * @param table the game table
+     * @return the interned table with the same layout
+     */
+    public GameTableConfiguration register(GameTableConfiguration table) {
+        BoardLayout layout = BoardLayout.of(table);
+        long encoding = layout.getEncoding();
+        if (!registered.contains(encoding)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(table, encoding));
+            } catch (DataIntegrityViolationException e) {
+                if (!layoutRepository.existsById(encoding)) {
+                    throw e;
+                }
+                // registered concurrently by another transaction
+                registered.add(encoding);
+            }
+        }
+        return layout.toTable();
+    }
+
+    private void insert(GameTableConfiguration table, long encoding) {
+        if (!layoutRepository.existsById(encoding)) {
+            layoutRepository.saveAndFlush(TableLayout
+                    .builder()
+                    .encoding(encoding)
+                    .incomeTaxIndex(table.getIncomeTaxIndex())
+                    .propertyIndices(join(table.getPropertyIndices()))
+                    .portIndices(join(table.getPortIndices()))
+                    .build());
+            log.info("registered board layout " + Long.toHexString(encoding));
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        registered.add(encoding);
+                    }
+                });
+    }
+
+    private static String join(List<Integer> cells) {
+        return cells.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,20 @@
+package group2.monopoly.game.service.store;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameOverException;
+
+/**
+ * An in-game action mutating the state of a {@link Game}, executed by an {@link IGameStore}.
+ */
+@FunctionalInterface
+public interface GameAction {
+    /**
+     * Applies the action to the game.
+     *
+     * @param game the game
+     * @throws GameFaultyMoveException if a player makes a move that is not allowed
+     * @throws GameOverException       if a player goes bankrupt
+     */
+    void apply(Game game) throws GameFaultyMoveException, GameOverException;
+}
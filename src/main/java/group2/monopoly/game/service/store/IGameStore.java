@@ -0,0 +1,77 @@
+package group2.monopoly.game.service.store;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.exception.GameOverException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface for accessing and mutating the state of ongoing games.
+ * <br><br>
+ * Implementations decide where the authoritative state of a game lives and when it is
+ * persisted.
+ *
+ * @see TransactionalGameStore
+ * @see InMemoryGameStore
+ */
+public interface IGameStore {
+    /**
+     * Gets the game with the given id if the user is a player of the game.
+     *
+     * @param user   the user requesting the game
+     * @param gameId id of the game
+     * @return the requested game
+     * @throws GameManagementException if no such game that the user is a player of exists
+     */
+    Game getGame(User user, Long gameId) throws GameManagementException;
+
+    /**
+     * Gets the turn of the game with the given id if the user is a player of the game, without
+     * loading the game.
+     *
+     * @param user   the user requesting the game
+     * @param gameId id of the game
+     * @return the turn of the game, or empty if no such game that the user is a player of exists
+     */
+    Optional<Long> getTurn(User user, Long gameId);
+
+    /**
+     * Executes the given action on the game with the given id as a single unit of work.
+     * <br><br>
+     * The state of the game after the action is persisted even if the action throws
+     * {@link GameOverException} or {@link GameFaultyMoveException}.
+     *
+     * @param user   the user requesting the action
+     * @param gameId id of the game
+     * @param action the action to execute
+     * @return the resulting game state
+     * @throws GameManagementException if no such game that the user is a player of exists
+     * @throws GameFaultyMoveException if a player makes a move that is not allowed
+     * @throws GameOverException       if a player goes bankrupt
+     */
+    Game execute(User user, Long gameId, GameAction action) throws GameManagementException,
+            GameFaultyMoveException, GameOverException;
+
+    /**
+     * Returns the events of the game after the given turn, in the order they happened, including
+     * the events that are not persisted yet.
+     *
+     * @param gameId id of the game
+     * @param turn   the last turn to exclude
+     * @return the events
+     */
+    List<GameEvent> getEvents(Long gameId, Long turn);
+
+    /**
+     * Discards any state of the game with the given id held by the store without persisting
+     * it. Should be called before a game is deleted.
+     *
+     * @param gameId id of the game
+     */
+    void discard(Long gameId);
+}
@@ -0,0 +1,409 @@
+package group2.monopoly.game.service.store;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.repository.GameRepository;
+import group2.monopoly.game.service.ScoreboardService;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implements {@link IGameStore} interface by keeping the authoritative state of active games in
+ * memory.
+ * <br><br>
+ * A game is loaded from the database once, with its whole graph initialized, and served from
+ * memory afterwards. Actions on the same game are serialized, while actions on different games
+ * run concurrently. Callers are given copies of the game taken within the action, so that later
+ * actions do not change the state being returned to them. An action failing with an unchecked
+ * exception may have left the game half changed, so the active game is dropped without being
+ * persisted, and loaded again on its next access.
+ * <br>
+ * Games with changes are checkpointed to the database
+ * <ul>
+ *     <li>periodically, every 'monopoly.game.store.checkpoint-interval',</li>
+ *     <li>synchronously, once 'monopoly.game.store.max-unsaved-turns' actions are unsaved,</li>
+ *     <li>when a game ends, along with the scoreboard entries of the game,</li>
+ *     <li>when a game is evicted, and</li>
+ *     <li>on shutdown.</li>
+ * </ul>
+ * Games are evicted in least-recently-used order when there are more than
+ * 'monopoly.game.store.max-games' active games, or when they are idle for
+ * 'monopoly.game.store.idle-timeout'.
+ * <br>
+ * Enabled by setting 'monopoly.game.store.in-memory' to true.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "monopoly.game.store.in-memory", havingValue = "true")
+public class InMemoryGameStore implements IGameStore {
+    private final GameManagerService gameManager;
+    private final GameRepository gameRepository;
+    private final GameHistoryService historyService;
+    private final ScoreboardService scoreboardService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxGames;
+    private final Duration idleTimeout;
+    private final int maxUnsavedTurns;
+
+    /**
+     * Active games in access order, guarded by itself.
+     */
+    private final LinkedHashMap<Long, ActiveGame> games = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * In-memory state of an active game. Actions and checkpoints synchronize on this object.
+     */
+    private static class ActiveGame {
+        private final Game game;
+        private long lastAccess = System.nanoTime();
+        private int unsavedTurns = 0;
+        private boolean discarded = false;
+
+        /**
+         * The turn of the game when it was last persisted. Events of later turns are pending.
+         */
+        private long savedTurn;
+
+        ActiveGame(Game game) {
+            this.game = game;
+            this.savedTurn = game.getTurn();
+        }
+    }
+
+    @Autowired
+    public InMemoryGameStore(GameManagerService gameManager, GameRepository gameRepository,
+                             GameHistoryService historyService,
+                             ScoreboardService scoreboardService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${monopoly.game.store.max-games}") int maxGames,
+                             @Value("${monopoly.game.store.idle-timeout}") Duration idleTimeout,
+                             @Value("${monopoly.game.store.max-unsaved-turns}") int maxUnsavedTurns) {
+        this.gameManager = gameManager;
+        this.gameRepository = gameRepository;
+        this.historyService = historyService;
+        this.scoreboardService = scoreboardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxGames = maxGames;
+        this.idleTimeout = idleTimeout;
+        this.maxUnsavedTurns = maxUnsavedTurns;
+    }
+
+    @Override
+    public Game getGame(User user, Long gameId) throws GameManagementException {
+        while (true) {
+            ActiveGame active = activate(user, gameId);
+            synchronized (active) {
+                if (!active.discarded) {
+                    active.lastAccess = System.nanoTime();
+                    return copyOf(active.game);
+                }
+            }
+            // evicted concurrently, load it again
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The turn of an active game is read from memory, since the database may lag behind it.
+     */
+    @Override
+    public Optional<Long> getTurn(User user, Long gameId) {
+        ActiveGame active;
+        synchronized (games) {
+            active = games.get(gameId);
+        }
+        if (active != null) {
+            synchronized (active) {
+                if (!active.discarded) {
+                    return Optional.of(active.game)
+                            .filter(game -> game.getPlayers().stream()
+                                    .anyMatch(player -> user.equals(player.getUser())))
+                            .map(Game::getTurn);
+                }
+            }
+        }
+        return gameRepository.findTurnByIdAndPlayer(gameId, user);
+    }
+
+    @Override
+    public Game execute(User user, Long gameId, GameAction action) throws GameManagementException,
+            GameFaultyMoveException, GameOverException {
+        while (true) {
+            ActiveGame active = activate(user, gameId);
+            synchronized (active) {
+                if (active.discarded) {
+                    // evicted concurrently, load it again
+                    continue;
+                }
+                active.lastAccess = System.nanoTime();
+                try {
+                    action.apply(active.game);
+                    active.unsavedTurns++;
+                    if (active.unsavedTurns >= maxUnsavedTurns) {
+                        checkpoint(active, false);
+                    }
+                } catch (GameOverException e) {
+                    active.unsavedTurns++;
+                    checkpoint(active, true);
+                    remove(gameId, active);
+                    throw e;
+                } catch (RuntimeException e) {
+                    log.warn("dropped the active state of game " + gameId + " after a failure");
+                    remove(gameId, active);
+                    throw e;
+                }
+                return copyOf(active.game);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>
+     * The database is not queried if all the events after the turn are pending in memory.
+     */
+    @Override
+    public List<GameEvent> getEvents(Long gameId, Long turn) {
+        ActiveGame active;
+        synchronized (games) {
+            active = games.get(gameId);
+        }
+        if (active == null) {
+            return historyService.getEvents(gameId, turn);
+        }
+        synchronized (active) {
+            if (active.discarded) {
+                return historyService.getEvents(gameId, turn);
+            }
+            List<GameEvent> events = turn >= active.savedTurn ? new ArrayList<>() :
+                    new ArrayList<>(historyService.getEvents(gameId, turn));
+            for (GameEvent event : active.game.getPendingEvents()) {
+                if (event.getTurn() > turn) {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+    }
+
+    @Override
+    public void discard(Long gameId) {
+        ActiveGame active;
+        synchronized (games) {
+            active = games.remove(gameId);
+        }
+        if (active != null) {
+            synchronized (active) {
+                active.discarded = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the active game with the given id, loading it from the database if necessary.
+     *
+     * @param user   the user requesting the game
+     * @param gameId id of the game
+     * @return the active game
+     * @throws GameManagementException if no such game that the user is a player of exists
+     */
+    private ActiveGame activate(User user, Long gameId) throws GameManagementException {
+        ActiveGame active;
+        synchronized (games) {
+            active = games.get(gameId);
+        }
+        if (active != null) {
+            gameManager.requirePlayer(user, Optional.of(active.game));
+            return active;
+        }
+
+        Optional<Game> loaded = transactionTemplate.execute(status -> {
+            Optional<Game> game = gameRepository.findById(gameId);
+            game.ifPresent(InMemoryGameStore::initialize);
+            return game;
+        });
+        Game game = gameManager.requirePlayer(user, loaded);
+
+        List<ActiveGame> evicted = new ArrayList<>();
+        synchronized (games) {
+            active = games.get(gameId);
+            if (active == null) {
+                active = new ActiveGame(game);
+                games.put(gameId, active);
+            }
+            Iterator<ActiveGame> eldest = games.values().iterator();
+            while (games.size() > maxGames && eldest.hasNext()) {
+                evicted.add(eldest.next());
+                eldest.remove();
+            }
+        }
+        evicted.forEach(this::evict);
+        return active;
+    }
+
+    /**
+     * Returns a copy of the game and its players, which is not changed by later actions on the
+     * game. The caller should hold the lock of the active game.
+     *
+     * @param game the game
+     * @return the copy of the game
+     */
+    private static Game copyOf(Game game) {
+        Game copy = game
+                .toBuilder()
+                .players(new ArrayList<>(game.getPlayers().size()))
+                .pendingEvents(new ArrayList<>(game.getPendingEvents()))
+                .build();
+        game.getPlayers().forEach(player -> copy.getPlayers().add(player
+                .toBuilder()
+                .game(copy)
+                .build()));
+        return copy;
+    }
+
+    /**
+     * Initializes the lazy associations of the game, so that the game can be used without a
+     * persistence context.
+     *
+     * @param game the game
+     */
+    private static void initialize(Game game) {
+        Hibernate.initialize(game.getPlayers());
+    }
+
+    /**
+     * Persists the state of the active game and its pending events if it has unsaved changes.
+     * The caller should hold the lock of the active game.
+     * <br><br>
+     * The versions of the persisted rows are copied back into the active game, so that the next
+     * checkpoint updates the same versions. If the game was modified in the database by someone
+     * else since it was loaded, its unsaved changes are dropped along with the active game, so
+     * that it is loaded again on its next access.
+     *
+     * @param active the active game
+     * @param over   whether the unsaved turns ended the game, in which case its scoreboard entries
+     *               are written in the same transaction
+     * @throws OptimisticLockingFailureException if the game was modified in the database
+     */
+    private void checkpoint(ActiveGame active, boolean over) {
+        if (active.unsavedTurns == 0 || active.discarded) {
+            return;
+        }
+        Game saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Game merged = gameRepository.save(active.game);
+                historyService.append(active.game);
+                if (over) {
+                    scoreboardService.record(active.game);
+                }
+                return merged;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("dropped " + active.unsavedTurns + " unsaved turns of game "
+                     + active.game.getId() + " modified concurrently");
+            remove(active.game.getId(), active);
+            throw e;
+        }
+        copyVersions(saved, active.game);
+        active.unsavedTurns = 0;
+        active.savedTurn = active.game.getTurn();
+        log.debug("checkpointed game " + active.game.getId());
+    }
+
+    private static void copyVersions(Game saved, Game game) {
+        game.setVersion(saved.getVersion());
+        Map<Long, Long> versions = new HashMap<>();
+        saved.getPlayers().forEach(player -> versions.put(player.getId(), player.getVersion()));
+        game.getPlayers().forEach(player -> player.setVersion(versions.get(player.getId())));
+    }
+
+    private void evict(ActiveGame active) {
+        synchronized (active) {
+            try {
+                checkpoint(active, false);
+            } catch (OptimisticLockingFailureException e) {
+                // already removed by the checkpoint
+            }
+            active.discarded = true;
+        }
+        log.debug("evicted game " + active.game.getId());
+    }
+
+    private void remove(Long gameId, ActiveGame active) {
+        synchronized (games) {
+            games.remove(gameId, active);
+        }
+        active.discarded = true;
+    }
+
+    /**
+     * Checkpoints the games with unsaved changes and evicts idle games.
+     */
+    @Scheduled(fixedDelayString = "${monopoly.game.store.checkpoint-interval}")
+    public void checkpointAll() {
+        List<Map.Entry<Long, ActiveGame>> entries;
+        synchronized (games) {
+            entries = new ArrayList<>(games.entrySet());
+        }
+        long idleSince = System.nanoTime() - idleTimeout.toNanos();
+        for (Map.Entry<Long, ActiveGame> entry : entries) {
+            ActiveGame active = entry.getValue();
+            boolean idle;
+            synchronized (active) {
+                try {
+                    checkpoint(active, false);
+                } catch (OptimisticLockingFailureException e) {
+                    continue;
+                }
+                idle = active.lastAccess - idleSince < 0;
+            }
+            if (idle) {
+                synchronized (games) {
+                    games.remove(entry.getKey(), active);
+                }
+                evict(active);
+            }
+        }
+    }
+
+    /**
+     * Checkpoints all active games before the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<ActiveGame> remaining;
+        synchronized (games) {
+            remaining = new ArrayList<>(games.values());
+            games.clear();
+        }
+        remaining.forEach(this::evict);
+        log.info("checkpointed " + remaining.size() + " active games on shutdown");
+    }
+}
@@ -0,0 +1,83 @@
+package group2.monopoly.game.service.store;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.repository.GameRepository;
+import group2.monopoly.game.service.ScoreboardService;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implements {@link IGameStore} interface by keeping the authoritative state of the games in
+ * the database.
+ * <br><br>
+ * Each action runs in its own transaction on managed entities, and all of its mutations are
+ * flushed once when the transaction commits, along with the events recorded by the action and
+ * the scoreboard entries of the game if the action ends it. This is the default store.
+ */
+@Service
+@ConditionalOnProperty(name = "monopoly.game.store.in-memory", havingValue = "false",
+        matchIfMissing = true)
+public class TransactionalGameStore implements IGameStore {
+    private final GameManagerService gameManager;
+    private final GameRepository gameRepository;
+    private final GameHistoryService historyService;
+    private final ScoreboardService scoreboardService;
+
+    @Autowired
+    public TransactionalGameStore(GameManagerService gameManager, GameRepository gameRepository,
+                                  GameHistoryService historyService,
+                                  ScoreboardService scoreboardService) {
+        this.gameManager = gameManager;
+        this.gameRepository = gameRepository;
+        this.historyService = historyService;
+        this.scoreboardService = scoreboardService;
+    }
+
+    @Override
+    public Game getGame(User user, Long gameId) throws GameManagementException {
+        return gameManager.getGame(user, gameId);
+    }
+
+    @Override
+    public Optional<Long> getTurn(User user, Long gameId) {
+        return gameRepository.findTurnByIdAndPlayer(gameId, user);
+    }
+
+    @Override
+    @Transactional
+    public Game execute(User user, Long gameId, GameAction action) throws GameManagementException,
+            GameFaultyMoveException, GameOverException {
+        Game game = gameManager.getGame(user, gameId);
+        try {
+            action.apply(game);
+        } catch (GameOverException e) {
+            scoreboardService.record(game);
+            throw e;
+        } finally {
+            historyService.append(game);
+        }
+        return game;
+    }
+
+    @Override
+    public List<GameEvent> getEvents(Long gameId, Long turn) {
+        return historyService.getEvents(gameId, turn);
+    }
+
+    @Override
+    public void discard(Long gameId) {
+        // nothing is held outside the database
+    }
+}
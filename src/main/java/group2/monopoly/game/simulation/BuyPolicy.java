@@ -0,0 +1,41 @@
+package group2.monopoly.game.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Interface for deciding the purchases of the players of a simulated game.
+ *
+ * @see #decideToBuy(int, int, SplittableRandom)
+ */
+@FunctionalInterface
+public interface BuyPolicy {
+    /**
+     * The "willingness-to-buy" policy of
+     * {@link group2.monopoly.game.service.ai.DumbAiPlayerRunnerService}.
+     */
+    BuyPolicy WILLINGNESS = (money, price, random) -> {
+        if (money < price) {
+            return false;
+        }
+        double remainingVsCurrentRatio = (double) (money - price) / money;
+        double currentVsCostRatio = (double) money / price;
+        double probabilityToBuy = Math.min(0.9, Math.max(0.1, Math.pow(remainingVsCurrentRatio,
+                currentVsCostRatio)));
+        return random.nextDouble() < probabilityToBuy;
+    };
+
+    /**
+     * Buys every cell the player can afford.
+     */
+    BuyPolicy ALWAYS = (money, price, random) -> money >= price;
+
+    /**
+     * Decides whether the player buys the cell they are on.
+     *
+     * @param money  the current money of the player
+     * @param price  the price of the cell
+     * @param random the random number generator of the game
+     * @return whether the player buys the cell
+     */
+    boolean decideToBuy(int money, int price, SplittableRandom random);
+}
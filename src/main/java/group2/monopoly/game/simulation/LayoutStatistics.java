@@ -0,0 +1,141 @@
+package group2.monopoly.game.simulation;
+
+import group2.monopoly.game.service.manager.CellSequence;
+
+import java.util.Arrays;
+
+/**
+ * Win rates and the game length distribution of the games simulated on a single layout.
+ * <br><br>
+ * Game lengths are counted in a histogram of {@link #BUCKET_TURNS} turn wide buckets.
+ * Statistics of disjoint sets of games are combined with {@link #merge(LayoutStatistics)}.
+ */
+public class LayoutStatistics {
+    public static final int BUCKET_TURNS = 10;
+
+    private final CellSequence layout;
+    private final int maxTurns;
+    private final long[] wins;
+    private final long[] lengthHistogram;
+    private long draws;
+    private long games;
+    private long totalTurns;
+
+    public LayoutStatistics(CellSequence layout, int playerCount, int maxTurns) {
+        this.layout = layout;
+        this.maxTurns = maxTurns;
+        this.wins = new long[playerCount];
+        this.lengthHistogram = new long[maxTurns / BUCKET_TURNS + 1];
+    }
+
+    /**
+     * Adds the outcome of a game.
+     *
+     * @param outcome the outcome packed with {@link SimulatedGame#outcome(int, int)}
+     */
+    public void add(long outcome) {
+        int winner = SimulatedGame.winnerOf(outcome);
+        int turns = SimulatedGame.turnsOf(outcome);
+        if (winner == SimulatedGame.DRAW) {
+            draws++;
+        } else {
+            wins[winner]++;
+        }
+        lengthHistogram[turns / BUCKET_TURNS]++;
+        totalTurns += turns;
+        games++;
+    }
+
+    /**
+     * Adds the statistics of another set of games on the same layout.
+     *
+     * @param other the statistics to add
+     * @return this object
+     */
+    public LayoutStatistics merge(LayoutStatistics other) {
+        for (int slot = 0; slot < wins.length; slot++) {
+            wins[slot] += other.wins[slot];
+        }
+        for (int bucket = 0; bucket < lengthHistogram.length; bucket++) {
+            lengthHistogram[bucket] += other.lengthHistogram[bucket];
+        }
+        draws += other.draws;
+        games += other.games;
+        totalTurns += other.totalTurns;
+        return this;
+    }
+
+    public CellSequence getLayout() {
+        return layout;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getWins(int slot) {
+        return wins[slot];
+    }
+
+    public double getWinRate(int slot) {
+        return games == 0 ? 0 : (double) wins[slot] / games;
+    }
+
+    public double getDrawRate() {
+        return games == 0 ? 0 : (double) draws / games;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns the game length histogram. The bucket at index i counts the games lasting
+     * [i * {@link #BUCKET_TURNS}, (i + 1) * {@link #BUCKET_TURNS}) turns.
+     *
+     * @return a copy of the histogram
+     */
+    public long[] getLengthHistogram() {
+        return lengthHistogram.clone();
+    }
+
+    /**
+     * Returns the smallest number of turns at least the given fraction of the games lasted, with
+     * the resolution of the histogram.
+     *
+     * @param fraction the fraction, between 0 and 1
+     * @return the upper bound of the bucket containing the percentile, at most the turn limit
+     */
+    public int getLengthPercentile(double fraction) {
+        long target = (long) Math.ceil(games * fraction);
+        long seen = 0;
+        for (int bucket = 0; bucket < lengthHistogram.length; bucket++) {
+            seen += lengthHistogram[bucket];
+            if (seen >= target) {
+                return Math.min((bucket + 1) * BUCKET_TURNS, maxTurns);
+            }
+        }
+        return maxTurns;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("properties=").append(layout.getPropertyIndexes())
+                .append(" ports=").append(layout.getPortIndexes())
+                .append(" incomeTax=").append(layout.getIncomeTax())
+                .append(" games=").append(games);
+        for (int slot = 0; slot < wins.length; slot++) {
+            builder.append(String.format(" p%d=%.4f", slot, getWinRate(slot)));
+        }
+        builder.append(String.format(" draw=%.4f meanTurns=%.1f p50=%d p90=%d p99=%d",
+                getDrawRate(), getMeanTurns(), getLengthPercentile(0.5),
+                getLengthPercentile(0.9), getLengthPercentile(0.99)));
+        builder.append(" histogram=").append(Arrays.toString(lengthHistogram));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package group2.monopoly.game.simulation;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.service.engine.CompiledCellPriceService;
+import group2.monopoly.game.service.engine.GameCellPriceService;
+import group2.monopoly.game.service.engine.core.CellPriceTable;
+import group2.monopoly.game.service.manager.CellSequence;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates many games on many layouts in parallel with {@link SimulatedGame}.
+ * <br><br>
+ * The games of each layout are split recursively across the given {@link ForkJoinPool}. Every
+ * game gets its own random number generator, seeded from the seed of the run, the index of the
+ * layout and the index of the game, so the results of a run only depend on its seed and not on
+ * the parallelism.
+ */
+public class MonteCarloSimulator {
+    /**
+     * Number of games a single task plays without splitting further.
+     */
+    private static final int GAMES_PER_TASK = 1024;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final CompiledCellPriceService priceService;
+    private final ForkJoinPool pool;
+    private final int playerCount;
+    private final int startingMoney;
+    private final int maxTurns;
+    private final BuyPolicy policy;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param priceService  the service pricing the simulated layouts
+     * @param pool          the pool to run the games on
+     * @param playerCount   the number of players of each game
+     * @param startingMoney the starting money of the players
+     * @param maxTurns      the maximum number of turns after which a game ends in a draw
+     * @param policy        the purchase policy of the players
+     */
+    public MonteCarloSimulator(CompiledCellPriceService priceService, ForkJoinPool pool,
+                               int playerCount, int startingMoney, int maxTurns,
+                               BuyPolicy policy) {
+        this.priceService = priceService;
+        this.pool = pool;
+        this.playerCount = playerCount;
+        this.startingMoney = startingMoney;
+        this.maxTurns = maxTurns;
+        this.policy = policy;
+    }
+
+    /**
+     * Simulates the given number of games on each of the given layouts.
+     *
+     * @param layouts        the layouts to simulate
+     * @param gamesPerLayout the number of games to simulate on each layout
+     * @param seed           the seed of the run
+     * @return the report of the run
+     */
+    public SimulationReport simulate(List<CellSequence> layouts, long gamesPerLayout, long seed) {
+        long start = System.nanoTime();
+        List<ForkJoinTask<LayoutStatistics>> tasks = new ArrayList<>();
+        for (int index = 0; index < layouts.size(); index++) {
+            CellSequence layout = layouts.get(index);
+            CellPriceTable prices = priceService.compile(new GameTableConfiguration(
+                    layout.getIncomeTax(), layout.getPropertyIndexes(), layout.getPortIndexes()));
+            tasks.add(pool.submit(new GamesTask(layout, prices, mix(seed + mix(index)), 0,
+                    gamesPerLayout)));
+        }
+        List<LayoutStatistics> statistics = new ArrayList<>();
+        for (ForkJoinTask<LayoutStatistics> task : tasks) {
+            statistics.add(task.join());
+        }
+        return new SimulationReport(statistics, System.nanoTime() - start);
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays the games [from, to) of a layout.
+     */
+    private class GamesTask extends RecursiveTask<LayoutStatistics> {
+        private final CellSequence layout;
+        private final CellPriceTable prices;
+        private final long layoutSeed;
+        private final long from;
+        private final long to;
+
+        GamesTask(CellSequence layout, CellPriceTable prices, long layoutSeed, long from,
+                  long to) {
+            this.layout = layout;
+            this.prices = prices;
+            this.layoutSeed = layoutSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LayoutStatistics compute() {
+            if (to - from > GAMES_PER_TASK) {
+                long middle = (from + to) >>> 1;
+                GamesTask left = new GamesTask(layout, prices, layoutSeed, from, middle);
+                GamesTask right = new GamesTask(layout, prices, layoutSeed, middle, to);
+                left.fork();
+                return right.compute().merge(left.join());
+            }
+            LayoutStatistics statistics = new LayoutStatistics(layout, playerCount, maxTurns);
+            for (long game = from; game < to; game++) {
+                SplittableRandom random = new SplittableRandom(
+                        mix(layoutSeed + game * GOLDEN_GAMMA));
+                statistics.add(SimulatedGame.play(prices, playerCount, startingMoney, maxTurns,
+                        policy, random));
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Simulates games on randomly generated layouts with the rules and prices of the game, and
+     * prints the report.
+     * <br><br>
+     * Arguments, all optional: the number of layouts (default 8), the number of games per
+     * layout (default 100000) and the seed (default the current time). Both the layouts and the
+     * games are generated from the seed, so a run is repeated by passing its printed seed.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        int layoutCount = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        long gamesPerLayout = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        RandomCellSequenceGeneratorService generator = new RandomCellSequenceGeneratorService();
+        Random random = new Random(seed);
+        List<CellSequence> layouts = new ArrayList<>();
+        for (int i = 0; i < layoutCount; i++) {
+            layouts.add(generator.generateCellSequence(random));
+        }
+
+        MonteCarloSimulator simulator = new MonteCarloSimulator(
+                new CompiledCellPriceService(new GameCellPriceService()), ForkJoinPool.commonPool(),
+                2, 1500, 1000, BuyPolicy.WILLINGNESS);
+        System.out.println("seed " + seed + ", " + ForkJoinPool.commonPool().getParallelism() +
+                           " workers");
+        System.out.println(simulator.simulate(layouts, gamesPerLayout, seed));
+    }
+}
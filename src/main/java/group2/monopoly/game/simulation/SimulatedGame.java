@@ -0,0 +1,99 @@
+package group2.monopoly.game.simulation;
+
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.engine.core.CellPriceTable;
+import group2.monopoly.game.service.engine.core.GameRules;
+import group2.monopoly.game.service.engine.core.TurnListener;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays whole games with the {@link GameRules}, without persistence, logging or allocations per
+ * turn.
+ * <br><br>
+ * Players take turns in their slot order. In their turn, a player serves their jail time or
+ * moves, and then decides whether to buy the cell they are on. The game ends when a player goes
+ * bankrupt, and the player with the highest score wins. Games reaching the turn limit end in a
+ * draw.
+ */
+public final class SimulatedGame {
+    public static final int DRAW = -1;
+
+    private SimulatedGame() {
+    }
+
+    /**
+     * Plays a single game.
+     *
+     * @param prices        the prices of the table
+     * @param playerCount   the number of players
+     * @param startingMoney the starting money of the players
+     * @param maxTurns      the maximum number of turns, each player's turn counting as one
+     * @param policy        the purchase policy of the players
+     * @param random        the random number generator of the game
+     * @return the outcome of the game, packed with {@link #outcome(int, int)}
+     */
+    public static long play(CellPriceTable prices, int playerCount, int startingMoney,
+                            int maxTurns, BuyPolicy policy, SplittableRandom random) {
+        BoardState state = new BoardState(prices.getLayout(), playerCount, startingMoney);
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            int slot = (turn - 1) % playerCount;
+            if (GameRules.serveJailTime(state, slot, TurnListener.NONE)) {
+                continue;
+            }
+            int die1 = random.nextInt(1, 7);
+            int die2 = random.nextInt(1, 7);
+            if (GameRules.move(state, slot, die1, die2, prices, TurnListener.NONE)
+                == GameRules.BANKRUPT) {
+                return outcome(winner(state, prices), turn);
+            }
+            int location = state.getLocation(slot);
+            if (GameRules.canBuy(state, slot, location, prices)
+                && policy.decideToBuy(state.getMoney(slot), prices.price(location), random)) {
+                GameRules.purchase(state, slot, location, prices, TurnListener.NONE);
+            }
+        }
+        return outcome(DRAW, maxTurns);
+    }
+
+    /**
+     * Returns the slot of the player with the highest score, as computed by
+     * {@link group2.monopoly.game.service.GameScoreService}, among the players who are not
+     * bankrupt.
+     */
+    private static int winner(BoardState state, CellPriceTable prices) {
+        int winner = DRAW;
+        int best = Integer.MIN_VALUE;
+        for (int slot = 0; slot < state.getPlayerCount(); slot++) {
+            int money = state.getMoney(slot);
+            if (money < 0) {
+                continue;
+            }
+            int score = money + prices.totalPrice(state.getOwned(slot));
+            if (score > best) {
+                best = score;
+                winner = slot;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Packs the outcome of a game into a single long.
+     *
+     * @param winner the slot of the winner, or {@link #DRAW}
+     * @param turns  the length of the game in turns
+     * @return the packed outcome
+     */
+    public static long outcome(int winner, int turns) {
+        return ((long) winner << 32) | (turns & 0xFFFFFFFFL);
+    }
+
+    public static int winnerOf(long outcome) {
+        return (int) (outcome >> 32);
+    }
+
+    public static int turnsOf(long outcome) {
+        return (int) outcome;
+    }
+}
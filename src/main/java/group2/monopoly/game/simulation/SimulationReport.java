@@ -0,0 +1,44 @@
+package group2.monopoly.game.simulation;
+
+import java.util.List;
+
+/**
+ * The outcome of a simulation run: the statistics of each simulated layout, in the order the
+ * layouts were given, and the throughput of the run.
+ */
+public class SimulationReport {
+    private final List<LayoutStatistics> layouts;
+    private final long elapsedNanos;
+
+    public SimulationReport(List<LayoutStatistics> layouts, long elapsedNanos) {
+        this.layouts = List.copyOf(layouts);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<LayoutStatistics> getLayouts() {
+        return layouts;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getGames() {
+        return layouts.stream().mapToLong(LayoutStatistics::getGames).sum();
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (LayoutStatistics layout : layouts) {
+            builder.append(layout).append(System.lineSeparator());
+        }
+        builder.append(String.format("%d games in %.3f s, %.0f games/s", getGames(),
+                elapsedNanos / 1e9, getGamesPerSecond()));
+        return builder.toString();
+    }
+}
@@ -3,8 +3,10 @@ package group2.monopoly.handlers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import group2.monopoly.game.exception.GameConflictException;
 import group2.monopoly.game.exception.GameFaultyMoveException;
 import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.exception.GameRequestMismatchException;
 import group2.monopoly.mapper.ObjectMapperSingleton;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -15,8 +17,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 
 /**
- * Handles in-game exceptions {@link GameOverException}, {@link GameFaultyMoveException}, to
- * produce appropriate response messages.
+ * Handles in-game exceptions {@link GameOverException}, {@link GameFaultyMoveException},
+ * {@link GameConflictException}, {@link GameRequestMismatchException}, to produce appropriate
+ * response messages.
  */
 @ControllerAdvice
 @Slf4j
@@ -60,4 +63,38 @@ public class GameExceptionHandler {
                 .put("message", exception.getMessage());
         return ResponseEntity.badRequest().body(response);
     }
+
+    /**
+     * Handles {@link GameConflictException} exception.
+     *
+     * @param exception  exception to handle
+     * @param webRequest the associated web request
+     * @return generated response object with the error message
+     */
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler({GameConflictException.class})
+    public ResponseEntity<JsonNode> handleGameConflictException(GameConflictException exception,
+                                                                WebRequest webRequest) {
+        log.info("Conflicting move");
+        ObjectNode response = mapper.createObjectNode()
+                .put("message", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Handles {@link GameRequestMismatchException} exception.
+     *
+     * @param exception  exception to handle
+     * @param webRequest the associated web request
+     * @return generated response object with the error message
+     */
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ExceptionHandler({GameRequestMismatchException.class})
+    public ResponseEntity<JsonNode> handleGameRequestMismatchException(
+            GameRequestMismatchException exception, WebRequest webRequest) {
+        log.info("Reused idempotency key");
+        ObjectNode response = mapper.createObjectNode()
+                .put("message", exception.getMessage());
+        return ResponseEntity.unprocessableEntity().body(response);
+    }
 }
@@ -0,0 +1,27 @@
+package group2.monopoly.mapper;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration class registering the CBOR message converter, so that the endpoints producing
+ * 'application/cbor' can be answered in CBOR when the client accepts it.
+ * <br><br>
+ * The converter is built with the same settings and modules as the JSON converter, so both
+ * formats carry the same fields. JSON remains the default format.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .createXmlMapper(false)
+                .factory(new CBORFactory())
+                .build());
+    }
+}
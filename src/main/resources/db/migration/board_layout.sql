@@ -0,0 +1,49 @@
+-- Moves the tables of the games from the income_tax_index column and the game_property_indices
+-- and game_port_indices collection tables into the board_layout column of game, holding the
+-- canonical encoding of the layout (see BoardLayout.encode), and registers each layout once in
+-- the board_layout table the column references.
+-- The encoding packs one nibble per cell: the rank of the property plus 1, 14 for a port and 15
+-- for the income tax. The property collection has no order column, but the properties were
+-- always generated in ascending order of their cells, which is their rank.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+CREATE TABLE board_layout
+(
+    encoding         BIGINT       NOT NULL PRIMARY KEY,
+    income_tax_index INT          NOT NULL,
+    property_indices VARCHAR(255) NOT NULL,
+    port_indices     VARCHAR(255) NOT NULL
+);
+
+ALTER TABLE game ADD COLUMN board_layout BIGINT;
+
+UPDATE game g
+SET g.board_layout = CAST((15 << (4 * g.income_tax_index))
+    | COALESCE((SELECT BIT_OR(14 << (4 * p.port_indices))
+                FROM game_port_indices p
+                WHERE p.game_id = g.id), 0)
+    | COALESCE((SELECT BIT_OR(r.property_rank << (4 * r.property_indices))
+                FROM (SELECT game_id, property_indices,
+                             ROW_NUMBER() OVER (PARTITION BY game_id ORDER BY property_indices)
+                                 AS property_rank
+                      FROM game_property_indices) r
+                WHERE r.game_id = g.id), 0) AS SIGNED);
+
+INSERT INTO board_layout (encoding, income_tax_index, property_indices, port_indices)
+SELECT g.board_layout,
+       g.income_tax_index,
+       COALESCE((SELECT GROUP_CONCAT(p.property_indices ORDER BY p.property_indices SEPARATOR ',')
+                 FROM game_property_indices p
+                 WHERE p.game_id = g.id), ''),
+       COALESCE((SELECT GROUP_CONCAT(p.port_indices ORDER BY p.port_indices SEPARATOR ',')
+                 FROM game_port_indices p
+                 WHERE p.game_id = g.id), '')
+FROM game g
+         INNER JOIN (SELECT MIN(id) AS id FROM game GROUP BY board_layout) f ON g.id = f.id;
+
+ALTER TABLE game MODIFY board_layout BIGINT NOT NULL;
+ALTER TABLE game ADD CONSTRAINT game_board_layout FOREIGN KEY (board_layout) REFERENCES board_layout (encoding);
+
+ALTER TABLE game DROP COLUMN income_tax_index;
+DROP TABLE game_property_indices;
+DROP TABLE game_port_indices;
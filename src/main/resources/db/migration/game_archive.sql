@@ -0,0 +1,13 @@
+-- Creates the game_archive table the completed games are moved to, and indexes the completion
+-- date of the games the archiver looks them up by.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+CREATE TABLE game_archive
+(
+    game_id         BIGINT       NOT NULL PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    completion_date DATETIME(6)  NOT NULL,
+    state           LONGBLOB     NOT NULL
+);
+
+CREATE INDEX game_completion_date ON game (completion_date);
@@ -0,0 +1,5 @@
+-- Adds the dice_cursor column of game, the position of the next roll of each game in the dice
+-- file. The games created before start reading the file from its beginning.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE game ADD COLUMN dice_cursor BIGINT NOT NULL DEFAULT 0;
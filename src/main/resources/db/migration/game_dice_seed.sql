@@ -0,0 +1,8 @@
+-- Adds the dice_seed column of game, the seed of the random dice stream of each game, and gives
+-- the games created before a random seed of their own.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE game ADD COLUMN dice_seed BIGINT NOT NULL DEFAULT 0;
+
+UPDATE game
+SET dice_seed = CAST(FLOOR((RAND() - 0.5) * 18446744073709551615) AS SIGNED);
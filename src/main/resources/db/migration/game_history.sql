@@ -0,0 +1,43 @@
+-- Creates the tables of the history of the games: the event log of their turns, the snapshots
+-- of their state, and the counters of the turns recorded since their latest snapshot, which the
+-- compactor looks up the games due for a snapshot by.
+-- The games created before have no snapshot to rebuild their state from, so they get no counter,
+-- and their events are deleted with them rather than compacted.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+CREATE SEQUENCE game_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE game_event
+(
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    game_id     BIGINT      NOT NULL,
+    turn        BIGINT      NOT NULL,
+    seq         INT         NOT NULL,
+    type        VARCHAR(16) NOT NULL,
+    player_slot INT         NOT NULL,
+    arg1        INT         NOT NULL,
+    arg2        INT         NOT NULL,
+    arg3        INT         NOT NULL
+);
+
+CREATE INDEX game_event_game_turn ON game_event (game_id, turn, seq);
+
+CREATE SEQUENCE game_snapshot_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE game_snapshot
+(
+    id      BIGINT         NOT NULL PRIMARY KEY,
+    game_id BIGINT         NOT NULL,
+    turn    BIGINT         NOT NULL,
+    state   VARBINARY(512) NOT NULL
+);
+
+CREATE INDEX game_snapshot_game_turn ON game_snapshot (game_id, turn);
+
+CREATE TABLE game_history
+(
+    game_id       BIGINT NOT NULL PRIMARY KEY,
+    pending_turns BIGINT NOT NULL
+);
+
+CREATE INDEX game_history_pending_turns ON game_history (pending_turns);
@@ -0,0 +1,6 @@
+-- Names the unique constraint of the name of the games, which game creation tells apart from
+-- the other constraints by its name. The constraint was generated by Hibernate before.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE game DROP INDEX UK_jare70vqqti665ds3b2eh7rk8,
+    ADD CONSTRAINT game_name UNIQUE (name);
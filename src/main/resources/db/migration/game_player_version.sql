@@ -0,0 +1,6 @@
+-- Adds the optimistic lock columns of game and player.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE game ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE player ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
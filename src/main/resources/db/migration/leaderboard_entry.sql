@@ -0,0 +1,26 @@
+-- Creates the leaderboard_entry table and fills it with the scores of the players of the games
+-- completed so far. Scores of those games were computed with the money of the bankrupt player,
+-- and are copied as they are. A user has at most one entry per game.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+CREATE SEQUENCE leaderboard_entry_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE leaderboard_entry
+(
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    game_id         BIGINT       NOT NULL,
+    username        VARCHAR(255),
+    score           INT          NOT NULL,
+    completion_date DATETIME(6)  NOT NULL,
+    CONSTRAINT leaderboard_entry_game_username UNIQUE (game_id, username)
+);
+
+CREATE INDEX leaderboard_entry_score ON leaderboard_entry (score, id);
+CREATE INDEX leaderboard_entry_completion_score ON leaderboard_entry (completion_date, score);
+
+INSERT INTO leaderboard_entry (id, game_id, username, score, completion_date)
+SELECT NEXT VALUE FOR leaderboard_entry_seq, g.id, u.username, p.score, g.completion_date
+FROM player p
+         INNER JOIN game g ON p.game_id = g.id
+         LEFT JOIN users u ON p.user_id = u.id
+WHERE g.completion_date IS NOT NULL;
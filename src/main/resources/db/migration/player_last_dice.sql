@@ -0,0 +1,18 @@
+-- Moves the last dice of the players from the player_last_dice collection table into the
+-- last_die_1 and last_die_2 columns of player, where 0 means the player has not rolled yet.
+-- The collection table kept no order, so the smaller die is taken as the first one.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE player
+    ADD COLUMN last_die_1 INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_die_2 INT NOT NULL DEFAULT 0;
+
+UPDATE player p
+    INNER JOIN (SELECT player_id, MIN(last_dice) AS die_1, MAX(last_dice) AS die_2
+                FROM player_last_dice
+                GROUP BY player_id
+                HAVING COUNT(*) = 2) d ON d.player_id = p.id
+SET p.last_die_1 = d.die_1,
+    p.last_die_2 = d.die_2;
+
+DROP TABLE player_last_dice;
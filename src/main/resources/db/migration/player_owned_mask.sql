@@ -0,0 +1,12 @@
+-- Moves the owned cells of the players from the player_owned_purchasables collection table
+-- into the owned_mask column of player, with the bit of each owned cell index set.
+-- Apply to the production database (MariaDB) before deploying, since the schema is validated.
+
+ALTER TABLE player ADD COLUMN owned_mask INT NOT NULL DEFAULT 0;
+
+UPDATE player p
+SET p.owned_mask = (SELECT COALESCE(SUM(1 << o.owned_purchasables), 0)
+                    FROM player_owned_purchasables o
+                    WHERE o.player_id = p.id);
+
+DROP TABLE player_owned_purchasables;
@@ -5,7 +5,8 @@ import org.junit.platform.suite.api.Suite;
 
 
 @Suite
-@SelectClasses(value=group2.monopoly.auth.AuthTestSuite.class)
+@SelectClasses(value={group2.monopoly.auth.AuthTestSuite.class,
+        group2.monopoly.game.GameTestSuite.class})
 class MonopolyApplicationTest {
 
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package group2.monopoly.game;
+
+import org.junit.platform.suite.api.SelectPackages;
+import org.junit.platform.suite.api.Suite;
+
+@Suite
+@SelectPackages({"group2.monopoly.game.controller",
+"group2.monopoly.game.service",
+"group2.monopoly.game.service.engine",
+"group2.monopoly.game.service.engine.core",
+"group2.monopoly.game.service.history",
+"group2.monopoly.game.service.archive",
+"group2.monopoly.game.simulation"})
+public class GameTestSuite {
+}
@@ -0,0 +1,121 @@
+package group2.monopoly.game.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.auth.service.UserService;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.service.GameStreamService;
+import group2.monopoly.game.service.GameTurnService;
+import group2.monopoly.game.service.IdempotencyService;
+import group2.monopoly.game.service.archive.GameArchiveService;
+import group2.monopoly.game.service.history.GameDeltaService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.store.IGameStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the validation of the game requests using mock services.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameControllerTest {
+    private MockMvc mvc;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private GameManagerService gameManager;
+
+    @Mock
+    private GameTurnService gameTurnService;
+
+    @Mock
+    private IGameStore gameStore;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private GameArchiveService archiveService;
+
+    @Mock
+    private GameDeltaService deltaService;
+
+    @Mock
+    private GameStreamService streamService;
+
+    @InjectMocks
+    private GameController controller;
+
+    @BeforeEach
+    public void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void Should_RejectTurns_When_CountIsNotPositive() throws Exception {
+        mvc.perform(post("/api/game/1/turns")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 0, \"buy\": \"ALWAYS\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void Should_RejectTurns_When_ThresholdHasNoPrice() throws Exception {
+        mvc.perform(post("/api/game/1/turns")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"count\": 5, \"buy\": \"THRESHOLD\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void Should_VaryByAccept_When_GameIsNotModified() throws Exception {
+        given(gameStore.getTurn(null, 1L)).willReturn(Optional.of(5L));
+
+        mvc.perform(get("/api/game/1").contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"json-5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mvc.perform(get("/api/game/1").contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"json-5\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"cbor-5\""));
+    }
+
+    @Test
+    void Should_RejectSince_When_GameIsArchived() throws Exception {
+        given(gameStore.getGame(null, 1L)).willThrow(new GameManagementException("no game"));
+        given(archiveService.getGame(null, 1L))
+                .willReturn(Optional.of(new ObjectMapper().createObjectNode().put("id", 1)));
+
+        mvc.perform(get("/api/game/1").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+        mvc.perform(get("/api/game/1").param("since", "3")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
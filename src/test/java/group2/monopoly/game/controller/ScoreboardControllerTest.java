@@ -0,0 +1,94 @@
+package group2.monopoly.game.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import group2.monopoly.game.entity.LeaderboardEntry;
+import group2.monopoly.game.payload.ScoreboardPageDTO;
+import group2.monopoly.game.service.ScoreboardService;
+import group2.monopoly.mapper.CborConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks the content negotiation of the scoreboard endpoints using a mock service.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScoreboardControllerTest {
+    private static final ScoreboardPageDTO page = new ScoreboardPageDTO(List.of(
+            new LeaderboardEntry(2L, 1L, "username", 1234, new Date(0)),
+            new LeaderboardEntry(1L, 1L, null, 567, new Date(0))), "567:1");
+
+    private MockMvc mvc;
+
+    @Mock
+    private ScoreboardService scoreboardService;
+
+    @InjectMocks
+    private ScoreboardController controller;
+
+    @BeforeEach
+    public void setUp() {
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(),
+                        new CborConfig().cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()))
+                .build();
+        given(scoreboardService.bestOfAllTimes(null, null)).willReturn(page);
+    }
+
+    @Test
+    void Should_RespondWithJson_When_NoFormatIsRequested() throws Exception {
+        MockHttpServletResponse response = mvc.perform(get("/api/scoreboard/alltime")
+                .contentType(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertEquals(1234, body.get("entries").get(0).get("score").asInt());
+    }
+
+    @Test
+    void Should_KeepPlayerFields_When_EntriesAreSerialized() throws Exception {
+        MockHttpServletResponse response = mvc.perform(get("/api/scoreboard/alltime")
+                .contentType(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+
+        JsonNode entries = new ObjectMapper().readTree(response.getContentAsByteArray())
+                .get("entries");
+        assertEquals(2, entries.get(0).get("id").asLong());
+        assertEquals("username", entries.get(0).get("user").get("username").asText());
+        assertFalse(entries.get(0).has("username"));
+        assertTrue(entries.get(1).get("user").isNull());
+    }
+
+    @Test
+    void Should_RespondWithCbor_When_CborIsAccepted() throws Exception {
+        MockHttpServletResponse json = mvc.perform(get("/api/scoreboard/alltime")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)).andReturn().getResponse();
+        MockHttpServletResponse cbor = mvc.perform(get("/api/scoreboard/alltime")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_CBOR)).andReturn().getResponse();
+
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getContentType());
+        assertEquals(new ObjectMapper().readTree(json.getContentAsByteArray()),
+                new CBORMapper().readTree(cbor.getContentAsByteArray()));
+    }
+}
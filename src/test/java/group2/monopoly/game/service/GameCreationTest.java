@@ -0,0 +1,108 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.CellSequence;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.ICellSequenceGenerator;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the number of SQL statements creating a game costs.
+ */
+@Slf4j
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({GameManagerService.class, GameHistoryService.class, TableLayoutService.class,
+        GameCreationTest.FixedCellSequenceGenerator.class})
+class GameCreationTest {
+    private static final int CREATIONS = 10;
+
+    /**
+     * Looking up the layout, which is registered by the first creation but only cached once a
+     * transaction commits, and inserting the game, the batch of players, the snapshot and the
+     * turn counter of the history.
+     */
+    private static final long CREATE_STATEMENTS = 5;
+
+    /**
+     * The sequences of the game, player and snapshot ids. Their pools of 50 ids are refilled
+     * at most once during the creations.
+     */
+    private static final long SEQUENCES = 3;
+
+    /**
+     * Generates the same table for every game, so that only the first creation registers a
+     * layout.
+     */
+    static class FixedCellSequenceGenerator implements ICellSequenceGenerator {
+        @Override
+        public CellSequence generateCellSequence() {
+            return new CellSequence(new ArrayList<>(List.of(1, 2, 5, 6, 8, 9, 13, 14)),
+                    new ArrayList<>(List.of(3, 7, 11, 15)), 10);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    private Statistics statistics;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(new User("username", "email@example.com", "password"));
+    }
+
+    @Test
+    void Should_CreateGame_WithBoundedStatementCount() throws Exception {
+        // registers the layout and initializes the pools of the sequences
+        gameManager.createGame(user, "game");
+
+        statistics.clear();
+        for (int i = 0; i < CREATIONS; i++) {
+            gameManager.createGame(user, "game" + i);
+        }
+
+        long statements = statistics.getPrepareStatementCount();
+        log.info(CREATIONS + " creations cost " + statements + " statements");
+        assertTrue(statements <= CREATIONS * CREATE_STATEMENTS + SEQUENCES);
+    }
+
+    @Test
+    void Should_ThrowManagementException_When_NameExists() throws Exception {
+        gameManager.createGame(user, "game");
+
+        assertThrows(GameManagementException.class, () -> gameManager.createGame(user, "game"));
+    }
+}
@@ -0,0 +1,78 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.payload.GameSummaryDTO;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Measures the number of SQL statements listing the games of a user costs.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({GameManagerService.class, GameHistoryService.class, TableLayoutService.class,
+        RandomCellSequenceGeneratorService.class})
+class GameListingTest {
+    private static final int GAME_COUNT = 100;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void Should_ListGames_WithSingleStatement_When_UserHasManyGames() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+        for (int i = 0; i < GAME_COUNT; i++) {
+            gameManager.createGame(user, "game" + i);
+        }
+        gameManager.createGame(other, "other");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<GameSummaryDTO> games = gameManager.getAvailableGames(user);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(GAME_COUNT, games.size());
+        for (GameSummaryDTO game : games) {
+            assertEquals("username", game.getOwner());
+            assertEquals(2, game.getPlayers().size());
+            assertEquals("username", game.getPlayers().get(0).getUsername());
+            assertNull(game.getPlayers().get(1).getUsername());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package group2.monopoly.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.service.history.GameDeltaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks the buffering of the pushed turns of {@link GameStreamService} with a mock
+ * {@link GameDeltaService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameStreamServiceTest {
+    private static final int BUFFER_SIZE = 2;
+
+    @Mock
+    private GameDeltaService deltaService;
+
+    /**
+     * Tasks of the executor that are not run yet, as if the clients were not reading.
+     */
+    private final List<Runnable> pending = new ArrayList<>();
+
+    private Game game;
+
+    @BeforeEach
+    public void setUp() {
+        game = new Game();
+        game.setId(1L);
+        game.setTurn(1L);
+        lenient().when(deltaService.getDelta(any(), anyLong()))
+                .thenReturn(new GameDeltaDTO(1L, 0L, 1L, List.of()));
+    }
+
+    private GameStreamService streamService(Executor executor) {
+        return new GameStreamService(new ObjectMapper(), deltaService, executor, BUFFER_SIZE,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    void Should_KeepSubscriber_When_TurnsAreSent() {
+        GameStreamService streamService = streamService(Runnable::run);
+        streamService.subscribe(1L);
+
+        for (int turn = 0; turn < 3 * BUFFER_SIZE; turn++) {
+            game.beginTurn();
+            streamService.publish(game, 0L);
+        }
+        assertEquals(1, streamService.getSubscriberCount(1L));
+    }
+
+    @Test
+    void Should_DropSubscriber_When_BufferIsFull() {
+        GameStreamService streamService = streamService(pending::add);
+        streamService.subscribe(1L);
+
+        for (int turn = 0; turn < BUFFER_SIZE; turn++) {
+            streamService.publish(game, 0L);
+        }
+        assertEquals(1, streamService.getSubscriberCount(1L));
+        assertEquals(1, pending.size());
+
+        streamService.publish(game, 0L);
+        assertEquals(0, streamService.getSubscriberCount(1L));
+    }
+
+    @Test
+    void Should_CompleteStream_When_GameIsOver() {
+        GameStreamService streamService = streamService(Runnable::run);
+        streamService.subscribe(1L);
+        streamService.subscribe(2L);
+
+        streamService.publish(new GameOverException(null, game), 0L);
+        assertEquals(0, streamService.getSubscriberCount(1L));
+        assertEquals(1, streamService.getSubscriberCount(2L));
+    }
+
+    @Test
+    void Should_NotComputeTurn_When_GameHasNoSubscribers() {
+        GameStreamService streamService = streamService(Runnable::run);
+        streamService.subscribe(2L);
+
+        streamService.publish(game, 0L);
+        verify(deltaService, never()).getDelta(any(), anyLong());
+    }
+}
@@ -0,0 +1,83 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import group2.monopoly.game.service.store.TransactionalGameStore;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the turn of a game, which tags the game for conditional requests, is looked up
+ * with a single statement without loading the game.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TransactionalGameStore.class, GameManagerService.class, GameHistoryService.class,
+        TableLayoutService.class, RandomCellSequenceGeneratorService.class,
+        ScoreboardService.class, LeaderboardWindowService.class})
+class GameTurnLookupTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    @Autowired
+    private TransactionalGameStore gameStore;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void Should_LookUpTurn_WithSingleStatement() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Game game = gameManager.createGame(user, "game");
+        game.beginTurn();
+        game.beginTurn();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertEquals(Optional.of(2L), gameStore.getTurn(user, game.getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void Should_NotLookUpTurn_When_UserIsNotAPlayer() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+        Game game = gameManager.createGame(user, "game");
+        entityManager.flush();
+
+        assertEquals(Optional.empty(), gameStore.getTurn(other, game.getId()));
+        assertEquals(Optional.empty(), gameStore.getTurn(user, game.getId() + 1));
+    }
+}
@@ -0,0 +1,77 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameConflictException;
+import group2.monopoly.game.service.ai.IAiPlayerRunner;
+import group2.monopoly.game.service.engine.IGameEngine;
+import group2.monopoly.game.service.history.GameDeltaService;
+import group2.monopoly.game.service.store.IGameStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@link GameTurnService} retries the turns conflicting with concurrent turns with
+ * a mock {@link IGameStore}.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameTurnServiceConflictTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final User user = new User("username", "email", "password");
+
+    @Mock
+    private IGameStore gameStore;
+
+    @Mock
+    private IGameEngine gameEngine;
+
+    @Mock
+    private IAiPlayerRunner aiPlayerRunner;
+
+    @Mock
+    private GameStreamService streamService;
+
+    @Mock
+    private GameDeltaService deltaService;
+
+    private GameTurnService gameTurnService;
+
+    @BeforeEach
+    public void setUp() {
+        gameTurnService = new GameTurnService(gameStore, gameEngine, aiPlayerRunner,
+                streamService, deltaService, MAX_ATTEMPTS, 100);
+    }
+
+    @Test
+    void Should_RetryTurn_When_TurnConflicts() throws Exception {
+        Game game = new Game();
+        when(gameStore.execute(eq(user), eq(1L), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L))
+                .thenReturn(game);
+
+        assertSame(game, gameTurnService.playTurn(user, 1L, false));
+        verify(gameStore, times(2)).execute(eq(user), eq(1L), any());
+    }
+
+    @Test
+    void Should_ThrowConflict_When_EveryAttemptConflicts() throws Exception {
+        when(gameStore.execute(eq(user), eq(1L), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L));
+
+        assertThrows(GameConflictException.class,
+                () -> gameTurnService.playTurn(user, 1L, false));
+        verify(gameStore, times(MAX_ATTEMPTS)).execute(eq(user), eq(1L), any());
+    }
+}
@@ -0,0 +1,204 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.payload.GameTurnsDTO.BuyPolicy;
+import group2.monopoly.game.payload.GameTurnsResultDTO;
+import group2.monopoly.game.service.ai.DumbAiPlayerRunnerService;
+import group2.monopoly.game.service.engine.CompiledCellPriceService;
+import group2.monopoly.game.service.engine.FileDiceGenerator;
+import group2.monopoly.game.service.engine.GameCellPriceService;
+import group2.monopoly.game.service.engine.GameEngineService;
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.history.GameDeltaService;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import group2.monopoly.game.service.store.TransactionalGameStore;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the number of SQL statements a whole game turn costs.
+ */
+@Slf4j
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "monopoly.dicefile=src/main/resources/diceSequences/dice_01.txt",
+        "monopoly.game.history.snapshot-turns=5"
+})
+@Import({GameTurnService.class, TransactionalGameStore.class, GameManagerService.class,
+        GameHistoryService.class, TableLayoutService.class,
+        RandomCellSequenceGeneratorService.class, GameEngineService.class,
+        CompiledCellPriceService.class, GameCellPriceService.class,
+        FileDiceGenerator.class, GameScoreService.class, ScoreboardService.class,
+        LeaderboardWindowService.class, DumbAiPlayerRunnerService.class,
+        GameStreamService.class, GameDeltaService.class})
+@AutoConfigureJson
+class GameTurnServiceTest {
+    /**
+     * Loading the game, its players and their collections, flushing the player rows and the
+     * changed collection rows in batches, appending the events of the turn in one batch, and
+     * inserting the leaderboard entries if the game ends, and counting the turns of the
+     * history.
+     */
+    private static final long MAX_TURN_STATEMENTS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    @Autowired
+    private GameTurnService gameTurnService;
+
+    @Autowired
+    private GameHistoryService historyService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void Should_FlushTurn_WithBoundedStatementCount() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Long gameId = gameManager.createGame(user, "game").getId();
+
+        for (int turn = 0; turn < 10; turn++) {
+            entityManager.flush();
+            entityManager.clear();
+            statistics.clear();
+
+            boolean over = false;
+            try {
+                gameTurnService.playTurn(user, gameId, false);
+            } catch (GameOverException e) {
+                over = true;
+            }
+            entityManager.flush();
+
+            long statements = statistics.getPrepareStatementCount();
+            log.info("turn " + turn + " cost " + statements + " statements, "
+                     + statistics.getEntityInsertCount() + " inserted and "
+                     + statistics.getEntityUpdateCount() + " updated rows");
+            assertTrue(statements <= MAX_TURN_STATEMENTS);
+            if (over) {
+                break;
+            }
+        }
+    }
+
+    @Test
+    void Should_RebuildState_When_EventsAreReplayedOnSnapshot() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Long gameId = gameManager.createGame(user, "game").getId();
+
+        Game game = null;
+        for (int turn = 0; turn < 10; turn++) {
+            try {
+                game = gameTurnService.playTurn(user, gameId, true);
+            } catch (GameOverException e) {
+                game = e.getGame();
+                break;
+            } catch (GameFaultyMoveException e) {
+                game = gameTurnService.playTurn(user, gameId, false);
+            }
+        }
+        entityManager.flush();
+
+        BoardState rebuilt = historyService.rebuild(gameId).orElseThrow();
+        assertArrayEquals(BoardState.load(game).toBytes(), rebuilt.toBytes());
+        game.getPlayers().forEach(p -> assertEquals(2, p.getLastDice().size()));
+    }
+
+    @Test
+    void Should_PlayTurnsInOneTransaction_When_TurnsAreBatched() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Long gameId = gameManager.createGame(user, "game").getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        GameTurnsResultDTO result = gameTurnService.playTurns(user, gameId, 10,
+                BuyPolicy.NEVER, null);
+        entityManager.flush();
+
+        assertEquals(result.isOver() ? result.getTurns().size() : 10, result.getTurns().size());
+        for (int turn = 0; turn < result.getTurns().size(); turn++) {
+            GameDeltaDTO summary = result.getTurns().get(turn);
+            assertEquals((long) turn, summary.getSince());
+            assertEquals(turn + 1L, summary.getTurn());
+            summary.getPlayers().stream()
+                    .filter(p -> p.getSlot() == 0)
+                    .forEach(p -> assertNull(p.getPurchased()));
+        }
+        List<GameEvent> events = historyService.getEvents(gameId, 0L);
+        assertEquals(result.getTurn(), events.get(events.size() - 1).getTurn());
+    }
+
+    @Test
+    void Should_KeepTurn_When_PurchaseIsRejected() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Long gameId = gameManager.createGame(user, "game").getId();
+
+        // the user starts on the starting point, which can not be bought
+        assertThrows(GameFaultyMoveException.class,
+                () -> gameTurnService.playTurn(user, gameId, true));
+
+        assertEquals(0L, gameManager.getGame(user, gameId).getTurn());
+    }
+
+    @Test
+    void Should_DeleteCoveredEvents_When_HistoryIsCompacted() throws Exception {
+        User user = userRepository.save(new User("username", "email@example.com", "password"));
+        Long gameId = gameManager.createGame(user, "game").getId();
+        GameTurnsResultDTO result = gameTurnService.playTurns(user, gameId, 10,
+                BuyPolicy.NEVER, null);
+        entityManager.flush();
+
+        historyService.compact();
+        entityManager.flush();
+        entityManager.clear();
+
+        Game game = gameManager.getGame(user, gameId);
+        assertTrue(historyService.getEvents(gameId, 0L).isEmpty());
+        assertArrayEquals(BoardState.load(game).toBytes(),
+                historyService.rebuild(gameId).orElseThrow().toBytes());
+        assertEquals(result.getTurn(), game.getTurn());
+    }
+}
@@ -0,0 +1,145 @@
+package group2.monopoly.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameConflictException;
+import group2.monopoly.game.exception.GameFaultyMoveException;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.exception.GameRequestMismatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+    private static final String REQUEST = "request";
+
+    private IdempotencyService idempotencyService;
+    private AtomicInteger turns;
+
+    @BeforeEach
+    public void setUp() {
+        idempotencyService = new IdempotencyService(new ObjectMapper(), 2, Duration.ofMinutes(1),
+                Duration.ofMillis(100));
+        turns = new AtomicInteger();
+    }
+
+    private IdempotencyService.Interaction turn() {
+        return () -> {
+            Game game = new Game();
+            game.setId(1L);
+            game.setName("game");
+            game.setTurn((long) turns.incrementAndGet());
+            return game;
+        };
+    }
+
+    @Test
+    void Should_ReplayResponse_When_KeyIsReused() throws Exception {
+        var first = idempotencyService.execute(1L, "username", "interact", REQUEST, "key",
+                turn());
+        var second = idempotencyService.execute(1L, "username", "interact", REQUEST, "key",
+                turn());
+
+        assertEquals(1, turns.get());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void Should_ApplyInteraction_When_KeyGameOrUserDiffers() throws Exception {
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "key", turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "other", turn());
+        idempotencyService.execute(2L, "username", "interact", REQUEST, "key", turn());
+        idempotencyService.execute(1L, "other", "interact", REQUEST, "key", turn());
+        idempotencyService.execute(1L, "username", "nuke", REQUEST, "key", turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, null, turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, null, turn());
+
+        assertEquals(7, turns.get());
+    }
+
+    @Test
+    void Should_ReplayGameOver_When_InteractionEndedTheGame() {
+        GameOverException gameOver = new GameOverException(null, null);
+        IdempotencyService.Interaction bankrupt = () -> {
+            turns.incrementAndGet();
+            throw gameOver;
+        };
+
+        assertSame(gameOver, assertThrows(GameOverException.class,
+                () -> idempotencyService.execute(1L, "username", "interact", REQUEST, "key",
+                        bankrupt)));
+        assertSame(gameOver, assertThrows(GameOverException.class,
+                () -> idempotencyService.execute(1L, "username", "interact", REQUEST, "key",
+                        bankrupt)));
+        assertEquals(1, turns.get());
+    }
+
+    @Test
+    void Should_ApplyAgain_When_InteractionFailed() throws Exception {
+        IdempotencyService.Interaction faulty = () -> {
+            turns.incrementAndGet();
+            throw new GameFaultyMoveException("can not buy cell");
+        };
+
+        assertThrows(GameFaultyMoveException.class,
+                () -> idempotencyService.execute(1L, "username", "interact", REQUEST, "key",
+                        faulty));
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "key", turn());
+
+        assertEquals(2, turns.get());
+    }
+
+    @Test
+    void Should_ForgetEldestResponse_When_CapacityIsExceeded() throws Exception {
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "first", turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "second", turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "third", turn());
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "first", turn());
+
+        assertEquals(4, turns.get());
+    }
+
+    @Test
+    void Should_RejectRequest_When_KeyIsReusedWithAnotherRequest() throws Exception {
+        idempotencyService.execute(1L, "username", "interact", REQUEST, "key", turn());
+
+        assertThrows(GameRequestMismatchException.class, () -> idempotencyService.execute(1L,
+                "username", "interact", "other request", "key", turn()));
+        assertEquals(1, turns.get());
+    }
+
+    @Test
+    void Should_ThrowConflict_When_FirstSubmissionIsStillRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IdempotencyService.Interaction slow = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return turn().apply();
+        };
+        Thread first = new Thread(() -> {
+            try {
+                idempotencyService.execute(1L, "username", "interact", REQUEST, "key", slow);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        first.start();
+        started.await();
+
+        assertThrows(GameConflictException.class, () -> idempotencyService.execute(1L,
+                "username", "interact", REQUEST, "key", turn()));
+        release.countDown();
+        first.join();
+        assertEquals(1, turns.get());
+    }
+}
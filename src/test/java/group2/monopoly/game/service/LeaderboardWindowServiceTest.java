@@ -0,0 +1,110 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.game.entity.LeaderboardEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardWindowServiceTest {
+    private static final Instant START = Instant.parse("2022-01-10T12:00:00Z");
+
+    private MutableClock clock;
+    private LeaderboardWindowService window;
+    private long nextId;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(START);
+        window = new LeaderboardWindowService(null, 2, clock);
+        nextId = 1;
+    }
+
+    @Test
+    void Should_KeepBestEntries_When_EntriesAreAdded() {
+        window.add(List.of(entry(100, 0), entry(300, 0)));
+        window.add(List.of(entry(200, 1), entry(50, 2)));
+        window.add(List.of(entry(400, 10)));
+
+        assertEquals(List.of(300, 200, 100), scoresOf(window.getWeekly()));
+        assertEquals(List.of(400, 300, 200), scoresOf(window.getAllTime()));
+    }
+
+    @Test
+    void Should_OrderByIdDescending_When_ScoresAreEqual() {
+        LeaderboardEntry first = entry(100, 0);
+        LeaderboardEntry second = entry(100, 0);
+        window.add(List.of(first, second));
+
+        assertEquals(List.of(second, first), window.getWeekly());
+    }
+
+    @Test
+    void Should_ExpireDays_When_TheyLeaveTheWindow() {
+        window.add(List.of(entry(300, 0)));
+        clock.advance(Duration.ofDays(1));
+        window.add(List.of(entry(100, 0)));
+
+        clock.advance(Duration.ofDays(LeaderboardWindowService.DAYS - 1));
+        assertEquals(List.of(100), scoresOf(window.getWeekly()));
+        assertEquals(List.of(300, 100), scoresOf(window.getAllTime()));
+
+        clock.advance(Duration.ofDays(1));
+        window.expire();
+        assertTrue(window.getWeekly().isEmpty());
+    }
+
+    @Test
+    void Should_StartWeekAtMidnight_When_WeekStartIsRequested() {
+        assertEquals(Instant.parse("2022-01-04T00:00:00Z"), window.getWeekStart().toInstant());
+    }
+
+    private LeaderboardEntry entry(int score, int daysAgo) {
+        return LeaderboardEntry
+                .builder()
+                .id(nextId++)
+                .gameId(1L)
+                .score(score)
+                .completionDate(Date.from(clock.instant().minus(Duration.ofDays(daysAgo))))
+                .build();
+    }
+
+    private static List<Integer> scoresOf(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getScore).toList();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package group2.monopoly.game.service;
+
+import group2.monopoly.game.entity.LeaderboardEntry;
+import group2.monopoly.game.payload.ScoreboardPageDTO;
+import group2.monopoly.game.repository.LeaderboardEntryRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "monopoly.scoreboard.size=3"
+})
+@Import({ScoreboardService.class, LeaderboardWindowService.class})
+class ScoreboardServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private LeaderboardEntryRepository leaderboardRepository;
+
+    @Autowired
+    private ScoreboardService scoreboardService;
+
+    @Autowired
+    private LeaderboardWindowService window;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        Date now = new Date();
+        Date monthAgo = Date.from(Instant.now().minus(30, ChronoUnit.DAYS));
+        for (int i = 0; i < 20; i++) {
+            leaderboardRepository.save(LeaderboardEntry
+                    .builder()
+                    .gameId((long) i)
+                    .username("user" + i)
+                    .score(i / 2 * 100)
+                    .completionDate(i % 2 == 0 ? now : monthAgo)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        window.rebuild();
+        statistics.clear();
+    }
+
+    @Test
+    void Should_ListBestScores_When_AllTimeScoreboardIsRead() {
+        ScoreboardPageDTO best = scoreboardService.bestOfAllTimes(null, null);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(900, 900, 800), scoresOf(best));
+        assertNotNull(best.getNext());
+    }
+
+    @Test
+    void Should_ListOnlyRecentScores_When_WeeklyScoreboardIsRead() {
+        ScoreboardPageDTO best = scoreboardService.bestOfLastWeek(null, null);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(900, 800, 700), scoresOf(best));
+    }
+
+    @Test
+    void Should_VisitEveryEntryOnce_When_PagesAreFollowed() {
+        List<Long> ids = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        String after = null;
+        do {
+            ScoreboardPageDTO page = scoreboardService.bestOfAllTimes(7, after);
+            page.getEntries().forEach(e -> ids.add(e.getId()));
+            scores.addAll(scoresOf(page));
+            after = page.getNext();
+        } while (after != null);
+
+        assertEquals(20, ids.size());
+        assertEquals(20, new HashSet<>(ids).size());
+        List<Integer> sorted = new ArrayList<>(scores);
+        sorted.sort(Comparator.reverseOrder());
+        assertEquals(sorted, scores);
+    }
+
+    @Test
+    void Should_ReadWeekFromDatabase_When_FirstPageIsLargerThanWindow() {
+        ScoreboardPageDTO best = scoreboardService.bestOfLastWeek(5, null);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(900, 800, 700, 600, 500), scoresOf(best));
+    }
+
+    @Test
+    void Should_CapPageSize_When_LimitIsTooLarge() {
+        ScoreboardPageDTO page = scoreboardService.bestOfAllTimes(1000, null);
+
+        assertEquals(20, page.getEntries().size());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void Should_Throw_When_CursorIsMalformed() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreboardService.bestOfAllTimes(null, "cursor"));
+    }
+
+    private static List<Integer> scoresOf(ScoreboardPageDTO page) {
+        return page.getEntries().stream().map(LeaderboardEntry::getScore).toList();
+    }
+}
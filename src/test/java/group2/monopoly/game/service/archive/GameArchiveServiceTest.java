@@ -0,0 +1,114 @@
+package group2.monopoly.game.service.archive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameManagementException;
+import group2.monopoly.game.repository.GameRepository;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureJson
+@Import({GameArchiveService.class, GameManagerService.class, GameHistoryService.class,
+        TableLayoutService.class, RandomCellSequenceGeneratorService.class})
+class GameArchiveServiceTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    @Autowired
+    private GameHistoryService historyService;
+
+    @Autowired
+    private GameArchiveService archiveService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(new User("username", "email@example.com", "password"));
+    }
+
+    private Long completeGame(String name, Date completionDate) throws Exception {
+        Game game = gameManager.createGame(user, name);
+        game.setCompletionDate(completionDate);
+        game.getPlayers().get(0).setScore(1234);
+        entityManager.flush();
+        entityManager.clear();
+        return game.getId();
+    }
+
+    @Test
+    void Should_MoveOldCompletedGames_When_Archived() throws Exception {
+        Long old = completeGame("old", Date.from(Instant.now().minus(30, ChronoUnit.DAYS)));
+        Long recent = completeGame("recent", new Date());
+        Long ongoing = gameManager.createGame(user, "ongoing").getId();
+
+        assertEquals(1, archiveService.archive());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(gameRepository.existsById(old));
+        assertTrue(historyService.rebuild(old).isEmpty());
+        assertTrue(gameRepository.existsById(recent));
+        assertTrue(gameRepository.existsById(ongoing));
+        assertTrue(archiveService.getGame(user, recent).isEmpty());
+
+        JsonNode game = archiveService.getGame(user, old).orElseThrow();
+        assertEquals("old", game.get("name").asText());
+        assertEquals(1234, game.get("players").get(0).get("score").asInt());
+    }
+
+    @Test
+    void Should_Throw_When_UserWasNotAPlayerOfArchivedGame() throws Exception {
+        Long old = completeGame("old", Date.from(Instant.now().minus(30, ChronoUnit.DAYS)));
+        archiveService.archive();
+        User other = userRepository.save(new User("other", "other@example.com", "password"));
+
+        assertThrows(GameManagementException.class, () -> archiveService.getGame(other, old));
+    }
+
+    @Test
+    void Should_Throw_When_AnotherUserHasTheUsernameOfAPlayer() throws Exception {
+        Long old = completeGame("old", Date.from(Instant.now().minus(30, ChronoUnit.DAYS)));
+        archiveService.archive();
+        User other = User.builder()
+                .id(user.getId() + 1)
+                .username(user.getUsername())
+                .email("other@example.com")
+                .password("password")
+                .build();
+
+        assertThrows(GameManagementException.class, () -> archiveService.getGame(other, old));
+    }
+}
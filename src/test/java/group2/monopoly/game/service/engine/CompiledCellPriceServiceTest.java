@@ -0,0 +1,65 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import group2.monopoly.game.service.manager.CellSequence;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link CompiledCellPriceService} agrees with {@link GameCellPriceService} on
+ * randomly generated game tables.
+ */
+class CompiledCellPriceServiceTest {
+    private final GameCellPriceService formulaService = new GameCellPriceService();
+    private final CompiledCellPriceService compiledService =
+            new CompiledCellPriceService(formulaService);
+    private final RandomCellSequenceGeneratorService generator =
+            new RandomCellSequenceGeneratorService();
+
+    private GameTableConfiguration randomTable() {
+        CellSequence sequence = generator.generateCellSequence();
+        return new GameTableConfiguration(sequence.getIncomeTax(),
+                sequence.getPropertyIndexes(), sequence.getPortIndexes());
+    }
+
+    @Test
+    public void Should_MatchFormulaService_When_TablesRandom() {
+        for (int i = 0; i < 100; i++) {
+            GameTableConfiguration table = randomTable();
+            for (int cell = 0; cell < BoardLayout.TABLE_SIZE; cell++) {
+                if (table.getPropertyIndices().contains(cell)) {
+                    assertEquals(formulaService.getPropertyPrice(table, cell),
+                            compiledService.getPropertyPrice(table, cell));
+                    assertEquals(formulaService.getPropertyRent(table, cell),
+                            compiledService.getPropertyRent(table, cell));
+                    assertEquals(formulaService.getCellPrice(table, cell),
+                            compiledService.getCellPrice(table, cell));
+                } else if (table.getPortIndices().contains(cell)) {
+                    assertEquals(formulaService.getPortPrice(table, cell),
+                            compiledService.getPortPrice(table, cell));
+                    for (int count = 1; count <= 4; count++) {
+                        assertEquals(formulaService.getPortRent(table, cell, count),
+                                compiledService.getPortRent(table, cell, count));
+                    }
+                    assertEquals(formulaService.getCellPrice(table, cell),
+                            compiledService.getCellPrice(table, cell));
+                } else {
+                    final int index = cell;
+                    assertThrows(IllegalArgumentException.class,
+                            () -> compiledService.getCellPrice(table, index));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void Should_InternTables_When_LayoutsEqual() {
+        GameTableConfiguration table = randomTable();
+        GameTableConfiguration copy = new GameTableConfiguration(table.getIncomeTaxIndex(),
+                table.getPropertyIndices(), table.getPortIndices());
+        assertSame(compiledService.compile(table), compiledService.compile(copy));
+    }
+}
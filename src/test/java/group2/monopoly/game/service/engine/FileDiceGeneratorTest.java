@@ -0,0 +1,55 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.entity.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link FileDiceGenerator} reads the dice file from the dice cursor of each game.
+ */
+class FileDiceGeneratorTest {
+    private FileDiceGenerator generator;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path file = Files.createTempFile("dice", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "1 2\ninvalid\n3 4\n5 6\n7 1\n6 6\n");
+        generator = new FileDiceGenerator(file.toString());
+    }
+
+    @Test
+    public void Should_SkipInvalidLines_And_WrapAround() {
+        Game game = new Game();
+        List<Integer> rolls = List.of(generator.roll(game), generator.roll(game),
+                generator.roll(game), generator.roll(game), generator.roll(game));
+        assertEquals(List.of(DiceRoll.of(1, 2), DiceRoll.of(3, 4), DiceRoll.of(5, 6),
+                DiceRoll.of(6, 6), DiceRoll.of(1, 2)), rolls);
+        assertEquals(Long.valueOf(5), game.getDiceCursor());
+    }
+
+    @Test
+    public void Should_KeepSeparateCursors_When_GamesInterleave() {
+        Game first = new Game();
+        Game second = new Game();
+        assertEquals(DiceRoll.of(1, 2), generator.roll(first));
+        assertEquals(DiceRoll.of(3, 4), generator.roll(first));
+        assertEquals(DiceRoll.of(1, 2), generator.roll(second));
+        assertEquals(DiceRoll.of(5, 6), generator.roll(first));
+        assertEquals(DiceRoll.of(3, 4), generator.roll(second));
+    }
+
+    @Test
+    public void Should_DefaultToOneOne_When_FileHasNoValidLines() throws Exception {
+        Path file = Files.createTempFile("dice", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, "nothing here\n");
+        assertEquals(DiceRoll.of(1, 1), new FileDiceGenerator(file.toString()).roll(new Game()));
+    }
+}
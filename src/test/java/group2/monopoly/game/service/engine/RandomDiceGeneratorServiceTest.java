@@ -0,0 +1,63 @@
+package group2.monopoly.game.service.engine;
+
+import group2.monopoly.game.entity.Game;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link RandomDiceGeneratorService} rolls replayable, uniformly distributed dice
+ * for each game.
+ */
+class RandomDiceGeneratorServiceTest {
+    private final RandomDiceGeneratorService generator = new RandomDiceGeneratorService();
+
+    private static Game gameWithSeed(long seed) {
+        Game game = new Game();
+        game.setDiceSeed(seed);
+        game.setDiceCursor(0L);
+        return game;
+    }
+
+    @Test
+    public void Should_FollowSplittableRandomStream_When_SeedIsGiven() {
+        Game game = gameWithSeed(453);
+        SplittableRandom random = new SplittableRandom(453);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(DiceRoll.fromBits(random.nextLong()), generator.roll(game));
+        }
+        assertEquals(Long.valueOf(1000), game.getDiceCursor());
+    }
+
+    @Test
+    public void Should_ReplayRolls_When_CursorIsRewound() {
+        Game game = gameWithSeed(-7);
+        int[] rolls = new int[100];
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = generator.roll(game);
+        }
+        game.setDiceCursor(40L);
+        for (int i = 40; i < rolls.length; i++) {
+            assertEquals(rolls[i], generator.roll(game));
+        }
+    }
+
+    @Test
+    public void Should_RollUniformDice() {
+        Game game = gameWithSeed(1);
+        int[] counts = new int[36];
+        int rolls = 360_000;
+        for (int i = 0; i < rolls; i++) {
+            int roll = generator.roll(game);
+            int die1 = DiceRoll.die1(roll);
+            int die2 = DiceRoll.die2(roll);
+            assertTrue(die1 >= 1 && die1 <= 6 && die2 >= 1 && die2 <= 6);
+            counts[(die1 - 1) * 6 + die2 - 1]++;
+        }
+        for (int count : counts) {
+            assertTrue(Math.abs(count - rolls / 36) < 500);
+        }
+    }
+}
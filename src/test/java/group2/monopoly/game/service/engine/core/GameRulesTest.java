@@ -0,0 +1,129 @@
+package group2.monopoly.game.service.engine.core;
+
+import group2.monopoly.game.entity.GameTableConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the correctness of {@link GameRules} on a fixed {@link BoardLayout}.
+ */
+class GameRulesTest {
+    private static final GameTableConfiguration TABLE = new GameTableConfiguration(7,
+            List.of(1, 2, 3, 5, 8, 10, 13, 15), List.of(6, 9, 11, 14));
+
+    private static final CellPrices PRICES = new CellPrices() {
+        @Override
+        public int price(int cell) {
+            return cell * 10;
+        }
+
+        @Override
+        public int rent(int cell, int portCount) {
+            return cell + portCount;
+        }
+
+        @Override
+        public int salary() {
+            return 100;
+        }
+
+        @Override
+        public int incomeTax() {
+            return 50;
+        }
+    };
+
+    private BoardState state;
+
+    @BeforeEach
+    public void setUp() {
+        state = new BoardState(BoardLayout.of(TABLE), 2, 1500);
+    }
+
+    @Test
+    public void Should_InternLayouts_When_TablesAreEqual() {
+        GameTableConfiguration copy = new GameTableConfiguration(7,
+                List.of(1, 2, 3, 5, 8, 10, 13, 15), List.of(14, 11, 9, 6));
+        assertSame(BoardLayout.of(TABLE), BoardLayout.of(copy));
+    }
+
+    @Test
+    public void Should_DecodeTable_When_LayoutIsInterned() {
+        GameTableConfiguration shuffledPorts = new GameTableConfiguration(7,
+                List.of(15, 2, 3, 5, 8, 10, 13, 1), List.of(14, 11, 9, 6));
+        BoardLayout layout = BoardLayout.of(BoardLayout.encode(shuffledPorts));
+        assertEquals(new GameTableConfiguration(7, List.of(15, 2, 3, 5, 8, 10, 13, 1),
+                List.of(6, 9, 11, 14)), layout.toTable());
+        assertSame(layout.toTable(), layout.toTable());
+    }
+
+    @Test
+    public void Should_PrecomputeCellTypes() {
+        BoardLayout layout = BoardLayout.of(TABLE);
+        assertEquals(BoardLayout.STARTING_POINT, layout.cellType(0));
+        assertEquals(BoardLayout.JAIL, layout.cellType(4));
+        assertEquals(BoardLayout.GOTO_JAIL, layout.cellType(12));
+        assertEquals(BoardLayout.INCOME_TAX, layout.cellType(7));
+        assertEquals(BoardLayout.PORT, layout.cellType(9));
+        assertEquals(BoardLayout.PROPERTY, layout.cellType(13));
+        assertEquals(6, layout.propertyRank(13));
+        assertEquals(7, layout.getIncomeTaxIndex());
+    }
+
+    @Test
+    public void Should_MoveAndPaySalary_When_PassingStartingPoint() {
+        state.setLocation(0, 14);
+        assertEquals(GameRules.CONTINUE, GameRules.move(state, 0, 1, 2, PRICES,
+                TurnListener.NONE));
+        assertEquals(1, state.getLocation(0));
+        assertEquals(1600, state.getMoney(0));
+    }
+
+    @Test
+    public void Should_GoToJail_When_RollingThreeDoubles() {
+        state.setSuccessiveDoubles(0, 2);
+        GameRules.move(state, 0, 3, 3, PRICES, TurnListener.NONE);
+        assertEquals(BoardLayout.JAIL_CELL, state.getLocation(0));
+        assertEquals(GameRules.JAIL_DURATION, state.getRemainingJailTime(0));
+        assertEquals(0, state.getSuccessiveDoubles(0));
+        assertTrue(GameRules.serveJailTime(state, 0, TurnListener.NONE));
+        assertEquals(1, state.getRemainingJailTime(0));
+    }
+
+    @Test
+    public void Should_ChargePortRentByPortCount() {
+        GameRules.purchase(state, 1, 9, PRICES, TurnListener.NONE);
+        GameRules.purchase(state, 1, 11, PRICES, TurnListener.NONE);
+        assertEquals(2, state.portCount(1));
+        assertEquals(1, state.ownerOf(9));
+        assertEquals(-1, state.ownerOf(10));
+
+        GameRules.move(state, 0, 4, 5, PRICES, TurnListener.NONE);
+        assertEquals(1500 - 11, state.getMoney(0));
+        assertEquals(1500 - 90 - 110 + 11, state.getMoney(1));
+    }
+
+    @Test
+    public void ShouldNot_BuyCell_When_NotPurchasableOrOwned() {
+        assertFalse(GameRules.canBuy(state, 0, 0, PRICES));
+        assertFalse(GameRules.canBuy(state, 0, 7, PRICES));
+        assertFalse(GameRules.canBuy(state, 0, 12, PRICES));
+        assertTrue(GameRules.canBuy(state, 0, 15, PRICES));
+        GameRules.purchase(state, 1, 15, PRICES, TurnListener.NONE);
+        assertFalse(GameRules.canBuy(state, 0, 15, PRICES));
+        state.setMoney(0, 10);
+        assertFalse(GameRules.canBuy(state, 0, 13, PRICES));
+    }
+
+    @Test
+    public void Should_GoBankrupt_When_BalanceNegative() {
+        state.setMoney(0, 20);
+        assertEquals(GameRules.BANKRUPT, GameRules.move(state, 0, 3, 4, PRICES,
+                TurnListener.NONE));
+        assertEquals(-30, state.getMoney(0));
+    }
+}
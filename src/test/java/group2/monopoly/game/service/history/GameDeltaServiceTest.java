@@ -0,0 +1,135 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.entity.Player;
+import group2.monopoly.game.payload.GameDeltaDTO;
+import group2.monopoly.game.payload.GameDeltaDTO.PlayerDelta;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.engine.core.CellPrices;
+import group2.monopoly.game.service.engine.core.GameRules;
+import group2.monopoly.game.service.engine.core.TurnListener;
+import group2.monopoly.game.service.store.IGameStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks that {@link GameDeltaService} reports exactly the fields changed by the recorded
+ * events with a mock {@link IGameStore}.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameDeltaServiceTest {
+    private static final GameTableConfiguration TABLE = new GameTableConfiguration(7,
+            List.of(1, 2, 3, 5, 8, 10, 13, 15), List.of(6, 9, 11, 14));
+
+    private static final CellPrices PRICES = new CellPrices() {
+        @Override
+        public int price(int cell) {
+            return cell * 10;
+        }
+
+        @Override
+        public int rent(int cell, int portCount) {
+            return cell * 5;
+        }
+
+        @Override
+        public int salary() {
+            return 100;
+        }
+
+        @Override
+        public int incomeTax() {
+            return 50;
+        }
+    };
+
+    @Mock
+    private IGameStore gameStore;
+
+    private GameDeltaService deltaService;
+
+    private Game game;
+
+    @BeforeEach
+    public void setUp() {
+        deltaService = new GameDeltaService(gameStore);
+        game = new Game();
+        game.setId(1L);
+        game.setTurn(0L);
+        game.setGameTableConfiguration(TABLE);
+        game.getPlayers().add(Player.builder().money(1500).turnOrder(1).build());
+        game.getPlayers().add(Player.builder().money(1500).turnOrder(2).build());
+        lenient().when(gameStore.getEvents(eq(1L), anyLong())).thenAnswer(invocation -> {
+            long since = invocation.getArgument(1);
+            return game.getPendingEvents().stream().filter(e -> e.getTurn() > since).toList();
+        });
+
+        BoardState state = BoardState.load(game);
+        game.beginTurn();
+        TurnListener recorder = new GameEventRecorder(game, TurnListener.NONE);
+        GameRules.move(state, 0, 1, 2, PRICES, recorder);
+        GameRules.purchase(state, 0, 3, PRICES, recorder);
+        game.beginTurn();
+        GameRules.charge(state, 1, 10, new GameEventRecorder(game, TurnListener.NONE));
+        state.store(game);
+    }
+
+    @Test
+    void Should_IncludeOnlyChangedFields_When_TurnIsSeen() {
+        GameDeltaDTO delta = deltaService.getDelta(game, 1L);
+
+        assertEquals(1L, delta.getSince());
+        assertEquals(2L, delta.getTurn());
+        assertEquals(List.of(new PlayerDelta(1, 1490, null, null, null, null)),
+                delta.getPlayers());
+    }
+
+    @Test
+    void Should_IncludeEveryChangedPlayer_When_TurnsAreNotSeen() {
+        GameDeltaDTO delta = deltaService.getDelta(game, 0L);
+
+        assertEquals(List.of(new PlayerDelta(0, 1470, 3, null, List.of(1, 2), Set.of(3)),
+                new PlayerDelta(1, 1490, null, null, null, null)), delta.getPlayers());
+    }
+
+    @Test
+    void Should_BeEmpty_When_LatestTurnIsSeen() {
+        assertTrue(deltaService.getDelta(game, 2L).getPlayers().isEmpty());
+    }
+
+    @Test
+    void Should_IncludeWholeState_When_TurnIsUnknown() {
+        GameDeltaDTO delta = deltaService.getDelta(game, 3L);
+
+        assertEquals(0L, delta.getSince());
+        assertEquals(List.of(new PlayerDelta(0, 1470, 3, 0, List.of(1, 2), Set.of(3)),
+                new PlayerDelta(1, 1490, 0, 0, List.of(), Set.of())), delta.getPlayers());
+        verify(gameStore, never()).getEvents(eq(1L), anyLong());
+    }
+
+    @Test
+    void Should_IncludeWholeState_When_EventsOfTurnAreCompacted() {
+        game.getPendingEvents().removeIf(event -> event.getTurn() <= 1);
+
+        GameDeltaDTO delta = deltaService.getDelta(game, 0L);
+
+        assertEquals(0L, delta.getSince());
+        assertEquals(List.of(new PlayerDelta(0, 1470, 3, 0, List.of(1, 2), Set.of(3)),
+                new PlayerDelta(1, 1490, 0, 0, List.of(), Set.of())), delta.getPlayers());
+    }
+}
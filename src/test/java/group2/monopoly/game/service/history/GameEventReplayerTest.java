@@ -0,0 +1,118 @@
+package group2.monopoly.game.service.history;
+
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.entity.GameEvent;
+import group2.monopoly.game.entity.GameEventType;
+import group2.monopoly.game.entity.GameTableConfiguration;
+import group2.monopoly.game.service.engine.core.BoardLayout;
+import group2.monopoly.game.service.engine.core.BoardState;
+import group2.monopoly.game.service.engine.core.CellPrices;
+import group2.monopoly.game.service.engine.core.GameRules;
+import group2.monopoly.game.service.engine.core.TurnListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that replaying the events recorded by {@link GameEventRecorder} reproduces the state
+ * produced by the {@link GameRules}.
+ */
+class GameEventReplayerTest {
+    private static final GameTableConfiguration TABLE = new GameTableConfiguration(7,
+            List.of(1, 2, 3, 5, 8, 10, 13, 15), List.of(6, 9, 11, 14));
+
+    private static final CellPrices PRICES = new CellPrices() {
+        @Override
+        public int price(int cell) {
+            return cell * 10;
+        }
+
+        @Override
+        public int rent(int cell, int portCount) {
+            return cell * 5 + portCount * 25;
+        }
+
+        @Override
+        public int salary() {
+            return 100;
+        }
+
+        @Override
+        public int incomeTax() {
+            return 50;
+        }
+    };
+
+    private Game game;
+
+    @BeforeEach
+    public void setUp() {
+        game = new Game();
+        game.setId(1L);
+        game.setTurn(0L);
+    }
+
+    @Test
+    public void Should_ReproduceState_When_EventsAreReplayed() {
+        BoardState state = new BoardState(BoardLayout.of(TABLE), 2, 1500);
+        byte[] initial = state.toBytes();
+        TurnListener recorder = new GameEventRecorder(game, TurnListener.NONE);
+        Random random = new Random(453);
+
+        boolean bankrupt = false;
+        for (int turn = 0; turn < 200 && !bankrupt; turn++) {
+            game.beginTurn();
+            recorder = new GameEventRecorder(game, TurnListener.NONE);
+            int slot = turn % 2;
+            if (GameRules.serveJailTime(state, slot, recorder)) {
+                continue;
+            }
+            bankrupt = GameRules.move(state, slot, random.nextInt(6) + 1, random.nextInt(6) + 1,
+                    PRICES, recorder) == GameRules.BANKRUPT;
+            int location = state.getLocation(slot);
+            if (!bankrupt && GameRules.canBuy(state, slot, location, PRICES)) {
+                GameRules.purchase(state, slot, location, PRICES, recorder);
+            }
+        }
+
+        BoardState replayed = BoardState.fromBytes(initial);
+        GameEventReplayer.replay(replayed, game.getPendingEvents());
+        assertArrayEquals(state.toBytes(), replayed.toBytes());
+    }
+
+    @Test
+    public void Should_NumberEventsWithinTurn() {
+        BoardState state = new BoardState(BoardLayout.of(TABLE), 2, 1500);
+        game.beginTurn();
+        GameRules.move(state, 0, 1, 2, PRICES, new GameEventRecorder(game, TurnListener.NONE));
+        GameRules.charge(state, 0, 10, new GameEventRecorder(game, TurnListener.NONE));
+        game.beginTurn();
+        GameRules.charge(state, 1, 10, new GameEventRecorder(game, TurnListener.NONE));
+
+        List<GameEvent> events = game.getPendingEvents();
+        assertEquals(List.of(GameEventType.DICE_ROLLED, GameEventType.MOVED,
+                        GameEventType.CHARGED, GameEventType.CHARGED),
+                events.stream().map(GameEvent::getType).toList());
+        assertEquals(List.of(0, 1, 2, 0), events.stream().map(GameEvent::getSeq).toList());
+        assertEquals(List.of(1L, 1L, 1L, 2L), events.stream().map(GameEvent::getTurn).toList());
+    }
+
+    @Test
+    public void Should_NotPayOwner_When_RentCanNotBeAfforded() {
+        BoardState state = new BoardState(BoardLayout.of(TABLE), 2, 1500);
+        game.beginTurn();
+        TurnListener recorder = new GameEventRecorder(game, TurnListener.NONE);
+        GameRules.purchase(state, 1, 15, PRICES, recorder);
+        state.setMoney(0, 10);
+
+        assertEquals(GameRules.BANKRUPT, GameRules.payRent(state, 0, 15, PRICES, recorder));
+        assertEquals(1500 - 150, state.getMoney(1));
+        assertEquals(List.of(GameEventType.PURCHASED, GameEventType.CHARGED,
+                        GameEventType.BANKRUPT),
+                game.getPendingEvents().stream().map(GameEvent::getType).toList());
+    }
+}
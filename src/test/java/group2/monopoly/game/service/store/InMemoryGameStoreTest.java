@@ -0,0 +1,112 @@
+package group2.monopoly.game.service.store;
+
+import group2.monopoly.auth.entity.User;
+import group2.monopoly.auth.repository.UserRepository;
+import group2.monopoly.game.entity.Game;
+import group2.monopoly.game.exception.GameOverException;
+import group2.monopoly.game.repository.LeaderboardEntryRepository;
+import group2.monopoly.game.service.LeaderboardWindowService;
+import group2.monopoly.game.service.ScoreboardService;
+import group2.monopoly.game.service.history.GameHistoryService;
+import group2.monopoly.game.service.manager.GameManagerService;
+import group2.monopoly.game.service.manager.RandomCellSequenceGeneratorService;
+import group2.monopoly.game.service.manager.TableLayoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the in-memory store does not share the state of its active games with its callers,
+ * drops the active games left half changed by failing actions, and records the scores of the
+ * games it saves as completed.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest(properties = "monopoly.game.store.in-memory=true")
+@Import({InMemoryGameStore.class, GameManagerService.class, GameHistoryService.class,
+        TableLayoutService.class, RandomCellSequenceGeneratorService.class,
+        ScoreboardService.class, LeaderboardWindowService.class})
+class InMemoryGameStoreTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameManagerService gameManager;
+
+    @Autowired
+    private InMemoryGameStore gameStore;
+
+    @Autowired
+    private LeaderboardEntryRepository leaderboardRepository;
+
+    private User user;
+
+    private Long gameId;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        user = userRepository.save(new User("username", "email@example.com", "password"));
+        gameId = gameManager.createGame(user, "game").getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void Should_ReturnCopy_When_GameIsChangedLater() throws Exception {
+        Game first = gameStore.execute(user, gameId, game -> {
+            game.beginTurn();
+            game.getPlayers().get(0).setMoney(1000);
+        });
+        gameStore.execute(user, gameId, game -> {
+            game.beginTurn();
+            game.getPlayers().get(0).setMoney(500);
+        });
+
+        assertEquals(1L, first.getTurn());
+        assertEquals(1000, first.getPlayers().get(0).getMoney());
+        assertEquals(500, gameStore.getGame(user, gameId).getPlayers().get(0).getMoney());
+    }
+
+    @Test
+    void Should_DropActiveGame_When_ActionFails() throws Exception {
+        assertThrows(IllegalStateException.class, () -> gameStore.execute(user, gameId, game -> {
+            game.beginTurn();
+            game.getPlayers().get(0).setMoney(1000);
+            throw new IllegalStateException("failed in the middle of the turn");
+        }));
+        entityManager.clear();
+
+        Game game = gameStore.getGame(user, gameId);
+        assertEquals(0L, game.getTurn());
+        assertEquals(1500, game.getPlayers().get(0).getMoney());
+    }
+
+    @Test
+    void Should_RecordScoresWithCompletedGame_When_GameEnds() throws Exception {
+        assertThrows(GameOverException.class, () -> gameStore.execute(user, gameId, game -> {
+            game.beginTurn();
+            game.setCompletionDate(new Date());
+            game.getPlayers().forEach(player -> player.setScore(100));
+            throw new GameOverException(game.getPlayers().get(0), game);
+        }));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, leaderboardRepository.count());
+        assertEquals(1L, gameManager.getGame(user, gameId).getTurn());
+    }
+}
@@ -0,0 +1,64 @@
+package group2.monopoly.game.simulation;
+
+import group2.monopoly.game.service.engine.CompiledCellPriceService;
+import group2.monopoly.game.service.engine.GameCellPriceService;
+import group2.monopoly.game.service.manager.CellSequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bookkeeping and the determinism of {@link MonteCarloSimulator}.
+ */
+class MonteCarloSimulatorTest {
+    private static final CellSequence LAYOUT = new CellSequence(
+            new ArrayList<>(List.of(1, 2, 3, 5, 8, 10, 13, 15)),
+            new ArrayList<>(List.of(6, 9, 11, 14)), 7);
+
+    private static final CellSequence OTHER_LAYOUT = new CellSequence(
+            new ArrayList<>(List.of(2, 3, 5, 6, 7, 9, 10, 11)),
+            new ArrayList<>(List.of(1, 8, 13, 15)), 14);
+
+    private SimulationReport simulate(int parallelism, long seed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            MonteCarloSimulator simulator = new MonteCarloSimulator(
+                    new CompiledCellPriceService(new GameCellPriceService()), pool, 2, 1500, 500,
+                    BuyPolicy.WILLINGNESS);
+            return simulator.simulate(List.of(LAYOUT, OTHER_LAYOUT), 5000, seed);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void Should_CountEveryGame() {
+        SimulationReport report = simulate(4, 453);
+        assertEquals(10000, report.getGames());
+        for (LayoutStatistics statistics : report.getLayouts()) {
+            assertEquals(5000, statistics.getWins(0) + statistics.getWins(1)
+                               + statistics.getDraws());
+            assertEquals(5000, Arrays.stream(statistics.getLengthHistogram()).sum());
+            assertTrue(statistics.getMeanTurns() > 0);
+        }
+        assertSame(LAYOUT, report.getLayouts().get(0).getLayout());
+    }
+
+    @Test
+    public void Should_NotDependOnParallelism_When_SeedIsFixed() {
+        SimulationReport sequential = simulate(1, 453);
+        SimulationReport parallel = simulate(4, 453);
+        for (int i = 0; i < 2; i++) {
+            LayoutStatistics expected = sequential.getLayouts().get(i);
+            LayoutStatistics actual = parallel.getLayouts().get(i);
+            assertEquals(expected.getWins(0), actual.getWins(0));
+            assertEquals(expected.getDraws(), actual.getDraws());
+            assertArrayEquals(expected.getLengthHistogram(), actual.getLengthHistogram());
+        }
+    }
+}